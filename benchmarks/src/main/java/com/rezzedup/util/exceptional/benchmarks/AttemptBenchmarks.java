@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional.benchmarks;
+
+import com.rezzedup.util.exceptional.Attempt;
+import com.rezzedup.util.exceptional.checked.CheckedDoubleSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedIntSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedLongSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedRunnable;
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AttemptBenchmarks
+{
+    // Preallocated so that failure paths measure handling overhead rather than stack trace capture.
+    static final IOException FAILURE = new IOException("benchmark");
+    
+    Attempt attempt = Attempt.ignoring();
+    
+    // Non-constant values (outside any boxing caches) so results can't be folded away.
+    String text = "exceptional";
+    int intValue = 1_000_000;
+    long longValue = 1_000_000_000_000L;
+    double doubleValue = 1_000_000.5;
+    
+    CheckedRunnable<IOException> runSuccess = () -> {};
+    CheckedRunnable<IOException> runFailure = () -> { throw FAILURE; };
+    
+    CheckedSupplier<String, IOException> getSuccess = () -> text;
+    CheckedSupplier<String, IOException> getFailure = () -> { throw FAILURE; };
+    
+    CheckedIntSupplier<IOException> getAsIntSuccess = () -> intValue;
+    CheckedIntSupplier<IOException> getAsIntFailure = () -> { throw FAILURE; };
+    
+    CheckedLongSupplier<IOException> getAsLongSuccess = () -> longValue;
+    CheckedLongSupplier<IOException> getAsLongFailure = () -> { throw FAILURE; };
+    
+    CheckedDoubleSupplier<IOException> getAsDoubleSuccess = () -> doubleValue;
+    CheckedDoubleSupplier<IOException> getAsDoubleFailure = () -> { throw FAILURE; };
+    
+    @Benchmark
+    public void runSuccess() { attempt.run(runSuccess); }
+    
+    @Benchmark
+    public void runFailure() { attempt.run(runFailure); }
+    
+    @Benchmark
+    public Optional<String> getSuccess() { return attempt.get(getSuccess); }
+    
+    @Benchmark
+    public Optional<String> getFailure() { return attempt.get(getFailure); }
+    
+    @Benchmark
+    public OptionalInt getAsIntSuccess() { return attempt.getAsInt(getAsIntSuccess); }
+    
+    @Benchmark
+    public OptionalInt getAsIntFailure() { return attempt.getAsInt(getAsIntFailure); }
+    
+    @Benchmark
+    public int getAsIntOrSuccess() { return attempt.getAsIntOr(getAsIntSuccess, 0); }
+    
+    @Benchmark
+    public int getAsIntOrFailure() { return attempt.getAsIntOr(getAsIntFailure, 0); }
+    
+    @Benchmark
+    public OptionalLong getAsLongSuccess() { return attempt.getAsLong(getAsLongSuccess); }
+    
+    @Benchmark
+    public OptionalLong getAsLongFailure() { return attempt.getAsLong(getAsLongFailure); }
+    
+    @Benchmark
+    public long getAsLongOrSuccess() { return attempt.getAsLongOr(getAsLongSuccess, 0); }
+    
+    @Benchmark
+    public long getAsLongOrFailure() { return attempt.getAsLongOr(getAsLongFailure, 0); }
+    
+    @Benchmark
+    public OptionalDouble getAsDoubleSuccess() { return attempt.getAsDouble(getAsDoubleSuccess); }
+    
+    @Benchmark
+    public OptionalDouble getAsDoubleFailure() { return attempt.getAsDouble(getAsDoubleFailure); }
+    
+    @Benchmark
+    public double getAsDoubleOrSuccess() { return attempt.getAsDoubleOr(getAsDoubleSuccess, 0); }
+    
+    @Benchmark
+    public double getAsDoubleOrFailure() { return attempt.getAsDoubleOr(getAsDoubleFailure, 0); }
+}
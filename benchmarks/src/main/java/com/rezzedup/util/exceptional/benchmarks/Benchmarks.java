@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks with the GC allocation profiler enabled, that way
+ * both per-call overhead and allocation rate are reported.
+ *
+ * <p>Accepts the same arguments as JMH itself, e.g. {@code java -jar target/benchmarks.jar Attempt}
+ * to only run benchmarks matching "Attempt".</p>
+ */
+public final class Benchmarks
+{
+    private Benchmarks() { throw new UnsupportedOperationException(); }
+    
+    public static void main(String[] args) throws Exception
+    {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        
+        // Let JMH handle informational options (like -h and -l) as usual.
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams() || cli.shouldListProfilers() || cli.shouldListResultFormats())
+        {
+            Main.main(args);
+            return;
+        }
+        
+        new Runner(new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional.benchmarks;
+
+import com.rezzedup.util.exceptional.Catcher;
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@SuppressWarnings("deprecation")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CheckedFunctionBenchmarks
+{
+    static final IOException FAILURE = new IOException("benchmark");
+    
+    String text = "exceptional";
+    
+    // Baseline: an ordinary lambda.
+    Function<String, Integer> plain = String::length;
+    
+    CheckedFunction<String, Integer, IOException> checked = String::length;
+    CheckedFunction<String, Integer, IOException> checkedWithCatcher = checked.catcher(Catcher::ignore);
+    CheckedFunction<String, Integer, IOException> failing = CheckedFunction.of(Catcher::ignore, s -> { throw FAILURE; });
+    
+    @Benchmark
+    public Integer plainApply() { return plain.apply(text); }
+    
+    @Benchmark
+    public Integer checkedApply() { return checked.apply(text); }
+    
+    @Benchmark
+    public Integer checkedApplyOrThrow() throws IOException { return checked.applyOrThrow(text); }
+    
+    @Benchmark
+    public Integer checkedWithCatcherApply() { return checkedWithCatcher.apply(text); }
+    
+    @Benchmark
+    public Integer checkedApplyFailure() { return failing.apply(text); }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional.benchmarks;
+
+import com.rezzedup.util.exceptional.Rethrow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RethrowBenchmarks
+{
+    IOException cause = new IOException("benchmark");
+    Rethrow rethrow = new Rethrow(cause);
+    
+    @Benchmark
+    public Rethrow caught()
+    {
+        try { throw Rethrow.caught(cause); }
+        catch (Rethrow e) { return e; }
+    }
+    
+    @Benchmark
+    public Rethrow caughtStackless()
+    {
+        try { throw Rethrow.caughtStackless(cause); }
+        catch (Rethrow e) { return e; }
+    }
+    
+    @Benchmark
+    public Rethrow caughtExistingRethrow()
+    {
+        try { throw Rethrow.caught(rethrow); }
+        catch (Rethrow e) { return e; }
+    }
+}
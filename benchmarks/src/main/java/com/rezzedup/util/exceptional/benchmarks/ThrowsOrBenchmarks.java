@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional.benchmarks;
+
+import com.rezzedup.util.exceptional.ThrowsOr;
+import com.rezzedup.util.exceptional.ThrowsOrInt;
+import com.rezzedup.util.exceptional.checked.CheckedIntSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ThrowsOrBenchmarks
+{
+    static final IOException FAILURE = new IOException("benchmark");
+    
+    String text = "exceptional";
+    int number = 1_000_000;
+    
+    CheckedSupplier<String, IOException> success = () -> text;
+    CheckedSupplier<String, IOException> failure = () -> { throw FAILURE; };
+    
+    CheckedSupplier<Integer, IOException> boxedSuccess = () -> number;
+    CheckedIntSupplier<IOException> intSuccess = () -> number;
+    
+    ThrowsOr<String> value = ThrowsOr.value(text);
+    ThrowsOr<String> exceptional = ThrowsOr.raise(FAILURE);
+    
+    @Benchmark
+    public ThrowsOr<String> resultSuccess() { return ThrowsOr.result(success); }
+    
+    @Benchmark
+    public ThrowsOr<String> resultFailure() { return ThrowsOr.result(failure); }
+    
+    @Benchmark
+    public ThrowsOr<Integer> resultBoxedIntSuccess() { return ThrowsOr.result(boxedSuccess); }
+    
+    @Benchmark
+    public ThrowsOrInt resultIntSuccess() { return ThrowsOrInt.result(intSuccess); }
+    
+    @Benchmark
+    public ThrowsOr<Integer> mapPipelineValue() { return value.map(String::length).filter(n -> n > 0).recover(e -> 0); }
+    
+    @Benchmark
+    public ThrowsOr<Integer> mapPipelineExceptional() { return exceptional.map(String::length).filter(n -> n > 0); }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Catcher that offloads exceptions to a background thread, which hands them to a delegate catcher.
+ *
+ * <p>Handling an exception only enqueues it into a bounded, lock-free ring buffer, so slow delegates
+ * (like {@link Catcher#print(Throwable)}, which serializes on {@code System.err}) never stall the
+ * calling thread. If the buffer is full, exceptions are dropped according to the configured
+ * {@link OverflowPolicy} and counted by {@link #dropped()}.</p>
+ *
+ * <p>Once {@link #close() closed}, any remaining exceptions are drained and further exceptions are
+ * handed to the delegate directly on the calling thread.</p>
+ *
+ * @param <E>   exception type
+ *
+ * @see Catcher#async(Catcher)
+ */
+public final class AsyncCatcher<E extends Throwable> implements Catcher<E>, AutoCloseable
+{
+    /**
+     * Default capacity of the buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+    
+    /**
+     * What to do with exceptions when the buffer is full.
+     */
+    public enum OverflowPolicy
+    {
+        /**
+         * Drops the exception being handled, keeping everything already enqueued.
+         */
+        DROP_NEWEST,
+        
+        /**
+         * Drops the oldest enqueued exception to make room for the exception being handled.
+         */
+        DROP_OLDEST
+    }
+    
+    private final Catcher<? super E> delegate;
+    private final OverflowPolicy overflow;
+    
+    // Bounded MPMC ring buffer: every slot carries a sequence number that tells producers
+    // and consumers whether it's their turn, so neither side needs a lock.
+    private final int mask;
+    private final AtomicReferenceArray<@NullOr E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    
+    private final Thread worker;
+    private volatile boolean waiting = false;
+    private volatile boolean closed = false;
+    
+    private AsyncCatcher(Catcher<? super E> delegate, int capacity, OverflowPolicy overflow, String threadName)
+    {
+        this.delegate = delegate;
+        this.overflow = overflow;
+        
+        // At least two slots: with one, a consumed slot's next sequence equals its filled sequence,
+        // so a producer could overwrite it before the consumer has read it.
+        int size = Math.max(2, Integer.highestOneBit(capacity));
+        if (size < capacity) { size <<= 1; }
+        
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) { sequences.set(i, i); }
+        
+        this.worker = new Thread(this::drainUntilClosed, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+    
+    private boolean offer(E exception)
+    {
+        for (;;)
+        {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    buffer.lazySet(index, exception);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+            else if (difference < 0) { return false; } // full
+        }
+    }
+    
+    private @NullOr E poll()
+    {
+        for (;;)
+        {
+            long position = head.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            
+            if (difference == 0)
+            {
+                if (head.compareAndSet(position, position + 1))
+                {
+                    @NullOr E exception = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return exception;
+                }
+            }
+            else if (difference < 0) { return null; } // empty
+        }
+    }
+    
+    @Override
+    public void handle(E exception)
+    {
+        Objects.requireNonNull(exception, "exception");
+        
+        if (closed)
+        {
+            delegate.handle(exception);
+            return;
+        }
+        
+        while (!offer(exception))
+        {
+            if (overflow == OverflowPolicy.DROP_NEWEST)
+            {
+                dropped.increment();
+                return;
+            }
+            
+            // DROP_OLDEST: discard the oldest exception to make room, then try again. If there was
+            // nothing to discard, the worker emptied the buffer in the meantime, so just try again.
+            if (poll() != null) { dropped.increment(); }
+        }
+        
+        // Closed after the check above: close() may have already drained for the last time, so
+        // deliver it here instead of leaving it stranded.
+        if (closed) { drain(); }
+        else if (waiting) { LockSupport.unpark(worker); }
+    }
+    
+    private void deliver(E exception)
+    {
+        try { delegate.handle(exception); }
+        catch (Throwable t) { worker.getUncaughtExceptionHandler().uncaughtException(worker, t); }
+        delivered.increment(); // the worker, or any thread draining after close
+    }
+    
+    private int drain()
+    {
+        int count = 0;
+        for (@NullOr E exception = poll(); exception != null; exception = poll())
+        {
+            deliver(exception);
+            count++;
+        }
+        return count;
+    }
+    
+    private void drainUntilClosed()
+    {
+        while (!closed)
+        {
+            if (drain() > 0) { continue; }
+            
+            waiting = true;
+            // Check again after announcing, otherwise a concurrent offer could skip the unpark.
+            if (head.get() == tail.get() && !closed) { LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100)); }
+            waiting = false;
+        }
+    }
+    
+    /**
+     * Gets the delegate that enqueued exceptions are eventually handed to.
+     *
+     * @return the delegate catcher
+     */
+    public Catcher<? super E> delegate() { return delegate; }
+    
+    /**
+     * Gets the total number of exceptions dropped because the buffer was full.
+     *
+     * @return the number of dropped exceptions
+     */
+    public long dropped() { return dropped.sum(); }
+    
+    /**
+     * Gets the total number of enqueued exceptions handed to the delegate, whether by the
+     * background thread or while closing.
+     *
+     * @return the number of delivered exceptions
+     */
+    public long delivered() { return delivered.sum(); }
+    
+    /**
+     * Gets the approximate number of exceptions currently waiting to be delivered.
+     *
+     * @return the number of pending exceptions
+     */
+    public int pending() { return (int) Math.max(0, tail.get() - head.get()); }
+    
+    /**
+     * Gets the capacity of the buffer (the requested capacity rounded up to a power of two, and at
+     * least 2).
+     *
+     * @return the capacity
+     */
+    public int capacity() { return mask + 1; }
+    
+    /**
+     * Checks whether this catcher is closed.
+     *
+     * @return {@code true} if closed
+     */
+    public boolean isClosed() { return closed; }
+    
+    /**
+     * Stops the background thread after it delivers all pending exceptions. Exceptions handled
+     * afterwards are handed to the delegate directly on the calling thread.
+     */
+    @Override
+    public void close()
+    {
+        if (closed) { return; }
+        closed = true;
+        
+        LockSupport.unpark(worker);
+        
+        try { worker.join(); }
+        catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        
+        // Anything enqueued while closing is delivered here instead.
+        drain();
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "AsyncCatcher{delegate=" + delegate + ", capacity=" + capacity() + ", overflow=" + overflow
+            + ", pending=" + pending() + ", dropped=" + dropped() + ", closed=" + closed + "}";
+    }
+    
+    /**
+     * Builds asynchronous catchers.
+     *
+     * @param <E>   exception type
+     */
+    public static final class Builder<E extends Throwable>
+    {
+        private final Catcher<? super E> delegate;
+        private int capacity = DEFAULT_CAPACITY;
+        private OverflowPolicy overflow = OverflowPolicy.DROP_NEWEST;
+        private String threadName = "Exceptional-AsyncCatcher";
+        
+        Builder(Catcher<? super E> delegate)
+        {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+        
+        /**
+         * Sets the capacity of the buffer, which is rounded up to a power of two (at least 2).
+         * Defaults to {@value #DEFAULT_CAPACITY}.
+         *
+         * @param capacity  maximum number of pending exceptions
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if capacity is not positive or too large
+         */
+        public Builder<E> capacity(int capacity)
+        {
+            if (capacity <= 0 || capacity > (1 << 30))
+            {
+                throw new IllegalArgumentException("Invalid capacity: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+        
+        /**
+         * Sets what to do with exceptions when the buffer is full.
+         * Defaults to {@link OverflowPolicy#DROP_NEWEST}.
+         *
+         * @param overflow  overflow policy
+         *
+         * @return this builder
+         */
+        public Builder<E> overflow(OverflowPolicy overflow)
+        {
+            this.overflow = Objects.requireNonNull(overflow, "overflow");
+            return this;
+        }
+        
+        /**
+         * Sets the name of the background thread.
+         *
+         * @param threadName    thread name
+         *
+         * @return this builder
+         */
+        public Builder<E> threadName(String threadName)
+        {
+            this.threadName = Objects.requireNonNull(threadName, "threadName");
+            return this;
+        }
+        
+        /**
+         * Creates a new asynchronous catcher and starts its background thread.
+         *
+         * @return a new asynchronous catcher
+         */
+        public AsyncCatcher<E> start()
+        {
+            return new AsyncCatcher<>(delegate, capacity, overflow, threadName);
+        }
+    }
+}
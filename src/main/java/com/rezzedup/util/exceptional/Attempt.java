@@ -14,11 +14,17 @@ import com.rezzedup.util.exceptional.checked.CheckedRunnable;
 import com.rezzedup.util.exceptional.checked.CheckedSupplier;
 import pl.tlinkowski.annotation.basic.NullOr;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 /**
  * Attempts to perform potentially exceptional actions, automatically handling any thrown exception.
@@ -45,7 +51,7 @@ public interface Attempt extends CatcherSource<Exception>
      * @return an attempt which ignores exceptions
      * @see Catcher#ignore(Throwable)
      */
-    static Attempt ignoring() { return () -> Catcher::ignore; }
+    static Attempt ignoring() { return () -> ExceptionEvents.IGNORE; }
     
     /**
      * Attempts performing potentially exception actions by printing any thrown exception.
@@ -53,7 +59,7 @@ public interface Attempt extends CatcherSource<Exception>
      * @return an attempt which prints exceptions
      * @see Catcher#print(Throwable)
      */
-    static Attempt printing() { return () -> Catcher::print; }
+    static Attempt printing() { return () -> ExceptionEvents.PRINT; }
     
     /**
      * Attempts performing potentially exception actions by rethrowing any thrown exception.
@@ -63,6 +69,114 @@ public interface Attempt extends CatcherSource<Exception>
      */
     static Attempt rethrowing() { return () -> Catcher::rethrow; }
     
+    /**
+     * Attempts performing potentially exception actions by rethrowing any thrown exception
+     * without capturing an additional stack trace.
+     *
+     * @return an attempt which rethrows exceptions (stackless)
+     * @see Catcher#rethrowStackless(Throwable)
+     */
+    static Attempt rethrowingStackless() { return () -> Catcher::rethrowStackless; }
+    
+    /**
+     * Creates an attempt that retries failed actions according to the provided policy, only handing
+     * the exception from the final attempt to this attempt's catcher.
+     *
+     * @param policy    retry policy
+     *
+     * @return a new retrying attempt
+     */
+    default RetryingAttempt retrying(RetryPolicy policy)
+    {
+        return new RetryingAttempt(this, policy);
+    }
+    
+    /**
+     * Creates an attempt that only performs actions permitted by the provided circuit breaker. While
+     * the breaker is open, actions aren't performed at all, and its shared
+     * {@link CircuitBreaker.OpenException} is handed to this attempt's catcher instead.
+     *
+     * @param breaker   circuit breaker, which may be shared by several attempts
+     *
+     * @return a new circuit-breaking attempt
+     */
+    default Attempt circuitBreaker(CircuitBreaker breaker)
+    {
+        return new CircuitBreakerAttempt(this, breaker);
+    }
+    
+    /**
+     * Creates an attempt that only performs actions while holding a permit from the provided
+     * bulkhead. Actions that can't get a permit aren't performed, and the bulkhead's shared
+     * {@link Bulkhead.FullException} is handed to this attempt's catcher instead.
+     *
+     * @param bulkhead  bulkhead, which may be shared by several attempts
+     *
+     * @return a new bulkhead-isolated attempt
+     */
+    default Attempt bulkhead(Bulkhead bulkhead)
+    {
+        return new BulkheadAttempt(this, bulkhead);
+    }
+    
+    /**
+     * Creates an attempt that only performs actions admitted by the provided rate limiter. Actions
+     * beyond the rate aren't performed, and the limiter's shared {@link RateLimiter.ExceededException}
+     * is handed to this attempt's catcher instead.
+     *
+     * @param limiter   rate limiter, which may be shared by several attempts
+     *
+     * @return a new rate-limited attempt
+     */
+    default Attempt rateLimited(RateLimiter limiter)
+    {
+        return new RateLimitedAttempt(this, limiter);
+    }
+    
+    /**
+     * Creates an attempt that hedges slow actions: if an action hasn't completed within the hedge
+     * delay, a second copy is started, and whichever succeeds first is used while the other is
+     * interrupted. Only hedge idempotent actions.
+     *
+     * @param hedging   hedging settings, which may be shared by several attempts
+     *
+     * @return a new hedged attempt
+     */
+    default Attempt hedged(Hedging hedging)
+    {
+        return new HedgedAttempt(this, hedging);
+    }
+    
+    /**
+     * Creates an attempt that bounds how long each action may take, running actions on the
+     * {@link VirtualThreads#executor() default executor}. Actions that don't complete in time are
+     * interrupted, and a {@link java.util.concurrent.TimeoutException} is handed to this attempt's
+     * catcher instead.
+     *
+     * @param timeout   maximum time each action may take
+     *
+     * @return a new time-limited attempt
+     */
+    default TimeLimitedAttempt timeout(Duration timeout)
+    {
+        return timeout(timeout, VirtualThreads.executor());
+    }
+    
+    /**
+     * Creates an attempt that bounds how long each action may take, running actions on the provided
+     * executor. Actions that don't complete in time are interrupted, and a
+     * {@link java.util.concurrent.TimeoutException} is handed to this attempt's catcher instead.
+     *
+     * @param timeout   maximum time each action may take
+     * @param executor  executes each action while the caller waits
+     *
+     * @return a new time-limited attempt
+     */
+    default TimeLimitedAttempt timeout(Duration timeout, Executor executor)
+    {
+        return new TimeLimitedAttempt(this, timeout, executor);
+    }
+    
     /**
      * Runs the potentially exceptional runnable, automatically handling any thrown exception
      * with {@link #catcher()}.
@@ -71,6 +185,12 @@ public interface Attempt extends CatcherSource<Exception>
      */
     default void run(CheckedRunnable<? extends Exception> runnable)
     {
+        if (ExceptionEvents.isAttemptEnabled())
+        {
+            ExceptionEvents.run(this, runnable);
+            return;
+        }
+        
         try { runnable.runOrThrow(); }
         catch (Exception e) { catcher().handleOrRethrowError(e); }
     }
@@ -87,6 +207,8 @@ public interface Attempt extends CatcherSource<Exception>
     @SuppressWarnings("ConstantConditions")
     default <T> Optional<T> get(CheckedSupplier<@NullOr T, ? extends Exception> supplier)
     {
+        if (ExceptionEvents.isAttemptEnabled()) { return ExceptionEvents.get(this, supplier); }
+        
         try { return Optional.ofNullable(supplier.getOrThrow()); }
         catch (Exception e) { catcher().handleOrRethrowError(e); }
         return Optional.empty();
@@ -107,6 +229,43 @@ public interface Attempt extends CatcherSource<Exception>
         return OptionalInt.empty();
     }
     
+    /**
+     * Gets the value from the potentially exceptional int supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsInt(CheckedIntSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * @param supplier  potentially exceptional int supplier
+     * @param fallback  value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the fallback if an exception is thrown
+     */
+    default int getAsIntOr(CheckedIntSupplier<? extends Exception> supplier, int fallback)
+    {
+        try { return supplier.getAsIntOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback;
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional int supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsInt(CheckedIntSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * <p>The fallback is only called if an exception is thrown. Checked suppliers are also accepted
+     * as fallbacks, in which case any exceptions they throw are handled by their own catcher.</p>
+     *
+     * @param supplier  potentially exceptional int supplier
+     * @param fallback  supplies the value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the supplied fallback if an exception is thrown
+     */
+    default int getAsIntOr(CheckedIntSupplier<? extends Exception> supplier, IntSupplier fallback)
+    {
+        try { return supplier.getAsIntOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback.getAsInt();
+    }
+    
     /**
      * Gets the value from the potentially exceptional long supplier, automatically handling any thrown
      * exception with {@link #catcher()}.
@@ -122,6 +281,43 @@ public interface Attempt extends CatcherSource<Exception>
         return OptionalLong.empty();
     }
     
+    /**
+     * Gets the value from the potentially exceptional long supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsLong(CheckedLongSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * @param supplier  potentially exceptional long supplier
+     * @param fallback  value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the fallback if an exception is thrown
+     */
+    default long getAsLongOr(CheckedLongSupplier<? extends Exception> supplier, long fallback)
+    {
+        try { return supplier.getAsLongOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback;
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional long supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsLong(CheckedLongSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * <p>The fallback is only called if an exception is thrown. Checked suppliers are also accepted
+     * as fallbacks, in which case any exceptions they throw are handled by their own catcher.</p>
+     *
+     * @param supplier  potentially exceptional long supplier
+     * @param fallback  supplies the value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the supplied fallback if an exception is thrown
+     */
+    default long getAsLongOr(CheckedLongSupplier<? extends Exception> supplier, LongSupplier fallback)
+    {
+        try { return supplier.getAsLongOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback.getAsLong();
+    }
+    
     /**
      * Gets the value from the potentially exceptional double supplier, automatically handling any thrown
      * exception with {@link #catcher()}.
@@ -136,4 +332,208 @@ public interface Attempt extends CatcherSource<Exception>
         catch (Exception e) { catcher().handleOrRethrowError(e); }
         return OptionalDouble.empty();
     }
+    
+    /**
+     * Gets the value from the potentially exceptional double supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsDouble(CheckedDoubleSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * @param supplier  potentially exceptional double supplier
+     * @param fallback  value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the fallback if an exception is thrown
+     */
+    default double getAsDoubleOr(CheckedDoubleSupplier<? extends Exception> supplier, double fallback)
+    {
+        try { return supplier.getAsDoubleOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback;
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional double supplier, automatically handling any thrown
+     * exception with {@link #catcher()}. Unlike {@link #getAsDouble(CheckedDoubleSupplier)}, the result is not
+     * wrapped, so nothing is allocated.
+     *
+     * <p>The fallback is only called if an exception is thrown. Checked suppliers are also accepted
+     * as fallbacks, in which case any exceptions they throw are handled by their own catcher.</p>
+     *
+     * @param supplier  potentially exceptional double supplier
+     * @param fallback  supplies the value to return if an exception is thrown
+     *
+     * @return the result from the supplier, or the supplied fallback if an exception is thrown
+     */
+    default double getAsDoubleOr(CheckedDoubleSupplier<? extends Exception> supplier, DoubleSupplier fallback)
+    {
+        try { return supplier.getAsDoubleOrThrow(); }
+        catch (Exception e) { catcher().handleOrRethrowError(e); }
+        return fallback.getAsDouble();
+    }
+    
+    /**
+     * Runs the potentially exceptional runnable on the {@link VirtualThreads#executor() default executor},
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param runnable  potentially exceptional runnable
+     *
+     * @return a future result which is empty if the runnable succeeded, or contains the thrown exception
+     * @see #runAsync(CheckedRunnable, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Void>> runAsync(CheckedRunnable<? extends Exception> runnable)
+    {
+        return runAsync(runnable, VirtualThreads.executor());
+    }
+    
+    /**
+     * Runs the potentially exceptional runnable on the provided executor, automatically handling
+     * any thrown exception with {@link #catcher()}.
+     *
+     * <p>If the catcher itself throws, the future completes exceptionally instead.</p>
+     *
+     * @param runnable  potentially exceptional runnable
+     * @param executor  executes the runnable
+     *
+     * @return a future result which is empty if the runnable succeeded, or contains the thrown exception
+     */
+    default CompletableFuture<ThrowsOr<Void>> runAsync(CheckedRunnable<? extends Exception> runnable, Executor executor)
+    {
+        Objects.requireNonNull(runnable, "runnable");
+        return getAsync(() -> {
+            runnable.runOrThrow();
+            return null;
+        }, executor);
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional supplier on the {@link VirtualThreads#executor() default executor},
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       value type
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsync(CheckedSupplier, Executor)
+     */
+    default <T> CompletableFuture<ThrowsOr<T>> getAsync(CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+    {
+        return getAsync(supplier, VirtualThreads.executor());
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional supplier on the provided executor,
+     * automatically handling any thrown exception with {@link #catcher()}. Nothing blocks while
+     * waiting for the result, so many independent calls can be started at once and joined later.
+     *
+     * <p>If the catcher itself throws, the future completes exceptionally instead.</p>
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param executor  executes the supplier
+     * @param <T>       value type
+     *
+     * @return a future result from the supplier, or the thrown exception
+     */
+    default <T> CompletableFuture<ThrowsOr<T>> getAsync(CheckedSupplier<@NullOr T, ? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(executor, "executor");
+        
+        return CompletableFuture.supplyAsync(() -> {
+            try { return ThrowsOr.maybe(supplier.getOrThrow()); }
+            catch (Exception e)
+            {
+                catcher().handleOrRethrowError(e);
+                return ThrowsOr.raise(e);
+            }
+        }, executor);
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional int supplier on the {@link VirtualThreads#executor() default executor},
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional int supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsIntAsync(CheckedIntSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Integer>> getAsIntAsync(CheckedIntSupplier<? extends Exception> supplier)
+    {
+        return getAsIntAsync(supplier, VirtualThreads.executor());
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional int supplier on the provided executor,
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional int supplier
+     * @param executor  executes the supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsync(CheckedSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Integer>> getAsIntAsync(CheckedIntSupplier<? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        return getAsync(supplier::getAsIntOrThrow, executor);
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional long supplier on the {@link VirtualThreads#executor() default executor},
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional long supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsLongAsync(CheckedLongSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Long>> getAsLongAsync(CheckedLongSupplier<? extends Exception> supplier)
+    {
+        return getAsLongAsync(supplier, VirtualThreads.executor());
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional long supplier on the provided executor,
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional long supplier
+     * @param executor  executes the supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsync(CheckedSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Long>> getAsLongAsync(CheckedLongSupplier<? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        return getAsync(supplier::getAsLongOrThrow, executor);
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional double supplier on the {@link VirtualThreads#executor() default executor},
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional double supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsDoubleAsync(CheckedDoubleSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Double>> getAsDoubleAsync(CheckedDoubleSupplier<? extends Exception> supplier)
+    {
+        return getAsDoubleAsync(supplier, VirtualThreads.executor());
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional double supplier on the provided executor,
+     * automatically handling any thrown exception with {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional double supplier
+     * @param executor  executes the supplier
+     *
+     * @return a future result from the supplier, or the thrown exception
+     * @see #getAsync(CheckedSupplier, Executor)
+     */
+    default CompletableFuture<ThrowsOr<Double>> getAsDoubleAsync(CheckedDoubleSupplier<? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        return getAsync(supplier::getAsDoubleOrThrow, executor);
+    }
 }
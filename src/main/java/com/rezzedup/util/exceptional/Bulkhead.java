@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many calls to a dependency may run at once, so a slow dependency can't consume every
+ * available thread.
+ *
+ * <p>Calls beyond the limit are either rejected immediately (the default) or wait up to a bounded
+ * time for a permit. Rejected calls are reported with one shared, stackless {@link FullException}.</p>
+ *
+ * <pre>{@code
+ * Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(16).maxWait(Duration.ofMillis(50)).build();
+ * Attempt isolated = Attempt.printing().bulkhead(bulkhead);
+ * }</pre>
+ *
+ * @see Attempt#bulkhead(Bulkhead)
+ */
+public final class Bulkhead
+{
+    /**
+     * Creates a new builder with the default settings: 10 concurrent calls, rejecting extra calls
+     * immediately.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+    private final FullException full = new FullException();
+    
+    private Bulkhead(Builder builder)
+    {
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls, builder.fair);
+    }
+    
+    /**
+     * Gets the maximum number of calls that may run at once.
+     *
+     * @return the maximum number of concurrent calls
+     */
+    public int maxConcurrentCalls() { return maxConcurrentCalls; }
+    
+    /**
+     * Gets the number of calls currently running.
+     *
+     * @return the number of calls in flight
+     */
+    public int inFlight() { return maxConcurrentCalls - permits.availablePermits(); }
+    
+    /**
+     * Gets the total number of rejected calls.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejected() { return rejected.sum(); }
+    
+    /**
+     * Claims a permit, waiting up to the maximum wait if configured. If this returns {@code true},
+     * the permit must be returned with {@link #release()}.
+     *
+     * @return {@code true} if the call may run
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean tryAcquire() throws InterruptedException
+    {
+        boolean acquired = (maxWaitNanos <= 0)
+            ? permits.tryAcquire()
+            : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        
+        if (!acquired) { rejected.increment(); }
+        return acquired;
+    }
+    
+    void release() { permits.release(); }
+    
+    /**
+     * Gets the shared exception reported for rejected calls.
+     *
+     * @return the shared exception for rejected calls
+     */
+    FullException full() { return full; }
+    
+    @Override
+    public String toString()
+    {
+        return "Bulkhead{maxConcurrentCalls=" + maxConcurrentCalls + ", inFlight=" + inFlight() + ", rejected=" + rejected() + "}";
+    }
+    
+    /**
+     * Reported when a call is rejected by a full bulkhead. A single stackless instance is shared for
+     * each bulkhead.
+     */
+    public static final class FullException extends RuntimeException
+    {
+        private FullException()
+        {
+            super("Bulkhead is full", null, false, false);
+        }
+    }
+    
+    /**
+     * Builds bulkheads.
+     */
+    public static final class Builder
+    {
+        private int maxConcurrentCalls = 10;
+        private Duration maxWait = Duration.ZERO;
+        private boolean fair = false;
+        
+        private Builder() {}
+        
+        /**
+         * Sets the maximum number of calls that may run at once.
+         *
+         * @param calls     maximum number of concurrent calls
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if calls is less than 1
+         */
+        public Builder maxConcurrentCalls(int calls)
+        {
+            if (calls < 1) { throw new IllegalArgumentException("maxConcurrentCalls must be at least 1: " + calls); }
+            this.maxConcurrentCalls = calls;
+            return this;
+        }
+        
+        /**
+         * Sets how long calls beyond the limit wait for a permit before being rejected. Zero (the
+         * default) rejects them immediately.
+         *
+         * @param maxWait   maximum time to wait for a permit
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if maxWait is negative
+         */
+        public Builder maxWait(Duration maxWait)
+        {
+            Objects.requireNonNull(maxWait, "maxWait");
+            if (maxWait.isNegative()) { throw new IllegalArgumentException("maxWait must not be negative: " + maxWait); }
+            this.maxWait = maxWait;
+            return this;
+        }
+        
+        /**
+         * Hands permits to waiting calls in arrival order, at some cost to throughput. This only has
+         * an effect with a {@linkplain #maxWait(Duration) maximum wait}: without one, calls never
+         * wait, so there's no queue to keep in order, and each call takes any free permit at once.
+         *
+         * @return this builder
+         */
+        public Builder fair()
+        {
+            this.fair = true;
+            return this;
+        }
+        
+        /**
+         * Creates a new bulkhead.
+         *
+         * @return a new bulkhead
+         */
+        public Bulkhead build() { return new Bulkhead(this); }
+    }
+}
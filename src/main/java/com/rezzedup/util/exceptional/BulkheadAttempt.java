@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+
+/**
+ * Attempt that only makes calls while holding a bulkhead permit.
+ */
+final class BulkheadAttempt extends DecoratedAttempt
+{
+    private final Bulkhead bulkhead;
+    
+    BulkheadAttempt(Attempt origin, Bulkhead bulkhead)
+    {
+        super(origin);
+        this.bulkhead = Objects.requireNonNull(bulkhead, "bulkhead");
+    }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        try
+        {
+            if (!bulkhead.tryAcquire()) { throw bulkhead.full(); }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        
+        try { return proceed(supplier); }
+        finally { bulkhead.release(); }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "BulkheadAttempt{origin=" + origin + ", bulkhead=" + bulkhead + "}";
+    }
+}
@@ -33,6 +33,95 @@ public interface Catcher<E extends Throwable> extends Consumer<E>
         return consumer::accept;
     }
     
+    /**
+     * Creates a builder for a catcher that routes exceptions to handlers by exception type.
+     *
+     * <pre>{@code
+     * Catcher<Exception> catcher =
+     *     Catcher.<Exception>dispatch()
+     *         .on(IOException.class, Catcher::print)
+     *         .on(TimeoutException.class, Catcher::ignore)
+     *         .otherwise(Catcher::rethrow);
+     * }</pre>
+     *
+     * @param <E>   exception type
+     *
+     * @return a new builder
+     * @see DispatchingCatcher
+     */
+    static <E extends Throwable> DispatchingCatcher.Builder<E> dispatch()
+    {
+        return new DispatchingCatcher.Builder<>();
+    }
+    
+    /**
+     * Creates a builder for a catcher that hands exceptions to the provided delegate on a
+     * background thread, so the calling thread never waits for the delegate.
+     *
+     * <pre>{@code
+     * AsyncCatcher<Exception> catcher =
+     *     Catcher.<Exception>async(Catcher::print)
+     *         .capacity(4096)
+     *         .overflow(AsyncCatcher.OverflowPolicy.DROP_OLDEST)
+     *         .start();
+     * }</pre>
+     *
+     * @param delegate  handles exceptions on the background thread
+     * @param <E>       exception type
+     *
+     * @return a new builder
+     * @see AsyncCatcher
+     */
+    static <E extends Throwable> AsyncCatcher.Builder<E> async(Catcher<? super E> delegate)
+    {
+        return new AsyncCatcher.Builder<>(delegate);
+    }
+    
+    /**
+     * Creates a builder for a catcher that only hands some exceptions to the provided delegate,
+     * suppressing (and counting) the rest.
+     *
+     * <pre>{@code
+     * Catcher<Exception> catcher =
+     *     Catcher.<Exception>throttle(Catcher::print)
+     *         .limit(10, Duration.ofSeconds(1))
+     *         .summarize(Catcher::print, Duration.ofMinutes(1))
+     *         .build();
+     * }</pre>
+     *
+     * @param delegate  handles exceptions that aren't suppressed
+     * @param <E>       exception type
+     *
+     * @return a new builder
+     * @see ThrottledCatcher
+     */
+    static <E extends Throwable> ThrottledCatcher.Builder<E> throttle(Catcher<? super E> delegate)
+    {
+        return new ThrottledCatcher.Builder<>(delegate);
+    }
+    
+    /**
+     * Creates a builder for a catcher that only hands the first occurrence of each distinct
+     * exception within a window to the provided delegate, counting any repeats instead.
+     *
+     * <pre>{@code
+     * Catcher<Exception> catcher =
+     *     Catcher.<Exception>deduplicate(Catcher::print)
+     *         .window(Duration.ofMinutes(5))
+     *         .build();
+     * }</pre>
+     *
+     * @param delegate  handles first occurrences
+     * @param <E>       exception type
+     *
+     * @return a new builder
+     * @see DeduplicatingCatcher
+     */
+    static <E extends Throwable> DeduplicatingCatcher.Builder<E> deduplicate(Catcher<? super E> delegate)
+    {
+        return new DeduplicatingCatcher.Builder<>(delegate);
+    }
+    
     /**
      * Does nothing, thus ignoring any consumed exception.
      *
@@ -63,12 +152,24 @@ public interface Catcher<E extends Throwable> extends Consumer<E>
         throw Rethrow.caught(exception);
     }
     
+    /**
+     * Rethrows exceptions with a {@link Rethrow#stackless(Throwable) stackless} {@link Rethrow}.
+     *
+     * @param exception     the exception
+     * @param <E>           exception type
+     */
+    static <E extends Throwable> void rethrowStackless(E exception)
+    {
+        throw Rethrow.caughtStackless(exception);
+    }
+    
     void handle(E exception);
     
     default void handleOrRethrowError(E exception)
     {
         if (exception instanceof Error) { throw (Error) exception; }
-        handle(exception);
+        if (ExceptionEvents.isHandledEnabled()) { ExceptionEvents.handle(this, exception); }
+        else { handle(exception); }
     }
     
     /**
@@ -0,0 +1,316 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the outcomes of calls to a dependency and stops calling it once it keeps failing.
+ *
+ * <p>While {@link State#CLOSED closed}, the outcomes of the most recent calls are kept in a sliding
+ * window. Once enough of them have failed, the breaker {@link State#OPEN opens} and rejects every
+ * call without making it. After a cooldown, it becomes {@link State#HALF_OPEN half-open} and lets a
+ * single trial call through: success closes the breaker, failure opens it again.</p>
+ *
+ * <p>Nothing here blocks: the window is a ring of bits updated with compare-and-set, and state
+ * changes are claimed with a single compare-and-set. Rejected calls are reported with one shared,
+ * stackless {@link OpenException}, so rejecting costs no allocation.</p>
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker =
+ *     CircuitBreaker.builder()
+ *         .window(20)
+ *         .minimumCalls(10)
+ *         .failureThreshold(0.5)
+ *         .openDuration(Duration.ofSeconds(30))
+ *         .build();
+ *
+ * Attempt guarded = Attempt.printing().circuitBreaker(breaker);
+ * }</pre>
+ *
+ * @see Attempt#circuitBreaker(CircuitBreaker)
+ */
+public final class CircuitBreaker
+{
+    /**
+     * Creates a new builder with the default settings: a window of the last 20 calls, opening once
+     * at least half of at least 10 calls failed, and staying open for 30 seconds.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    /**
+     * Circuit breaker states.
+     */
+    public enum State
+    {
+        /** Calls are made and their outcomes recorded. */
+        CLOSED,
+        /** Calls are rejected without being made. */
+        OPEN,
+        /** A single trial call is being made to decide whether to close again. */
+        HALF_OPEN
+    }
+    
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private final OpenException rejected = new OpenException();
+    
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private volatile Window window;
+    private volatile long openedAt;
+    
+    private CircuitBreaker(Builder builder)
+    {
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureThreshold = builder.failureThreshold;
+        this.openNanos = builder.openDuration.toNanos();
+        this.clock = builder.clock;
+        this.window = new Window(windowSize);
+    }
+    
+    /**
+     * Gets the current state. An open breaker whose cooldown has passed still reports being open
+     * until the next call makes it half-open.
+     *
+     * @return the current state
+     */
+    public State state() { return state.get(); }
+    
+    /**
+     * Gets the number of failures among the calls in the current window.
+     *
+     * @return the number of recent failures
+     */
+    public int failures() { return window.failures.get(); }
+    
+    /**
+     * Gets the number of calls in the current window.
+     *
+     * @return the number of recent calls
+     */
+    public int calls() { return window.calls(); }
+    
+    /**
+     * Checks whether a call may be made right now. If permitted, the outcome must be reported with
+     * {@link #onSuccess(State)} or {@link #onFailure(State)}, passing the returned permit.
+     *
+     * @return {@link State#CLOSED} for a normal call, {@link State#HALF_OPEN} for the trial call,
+     *         or {@code null} if the call is rejected
+     */
+    @NullOr State tryAcquire()
+    {
+        switch (state.get())
+        {
+            case CLOSED: return State.CLOSED;
+            case OPEN:
+                boolean trial = clock.getAsLong() - openedAt >= openNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+                return trial ? State.HALF_OPEN : null;
+            default: return null; // a trial call is already in progress
+        }
+    }
+    
+    void onSuccess(State permit)
+    {
+        // Only the trial call decides whether to close: others may have started before opening.
+        if (permit == State.HALF_OPEN)
+        {
+            window = new Window(windowSize);
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+        }
+        else { window.record(false); }
+    }
+    
+    void onFailure(State permit)
+    {
+        if (permit == State.CLOSED)
+        {
+            // Made before opening, so neither extend the cooldown nor interfere with the trial.
+            if (state.get() != State.CLOSED) { return; }
+            
+            Window recent = window;
+            int failures = recent.record(true);
+            int calls = recent.calls();
+            if (calls < minimumCalls || failures < failureThreshold * calls) { return; }
+        }
+        
+        // Set before opening so anyone who sees the open state also sees when it opened.
+        openedAt = clock.getAsLong();
+        state.compareAndSet(permit, State.OPEN);
+    }
+    
+    /**
+     * Gets the shared exception reported for rejected calls.
+     *
+     * @return the shared exception for rejected calls
+     */
+    OpenException rejected() { return rejected; }
+    
+    @Override
+    public String toString()
+    {
+        return "CircuitBreaker{state=" + state() + ", failures=" + failures() + ", calls=" + calls() + "}";
+    }
+    
+    /**
+     * Count-based sliding window of call outcomes, one bit per call.
+     */
+    private static final class Window
+    {
+        final int size;
+        final AtomicLongArray bits;
+        final AtomicLong index = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+        
+        Window(int size)
+        {
+            this.size = size;
+            this.bits = new AtomicLongArray((size + 63) >>> 6);
+        }
+        
+        int calls() { return (int) Math.min(index.get(), size); }
+        
+        int record(boolean failed)
+        {
+            int slot = (int) (index.getAndIncrement() % size);
+            int word = slot >>> 6;
+            long mask = 1L << slot;
+            
+            for (;;)
+            {
+                long bits = this.bits.get(word);
+                long updated = failed ? (bits | mask) : (bits & ~mask);
+                
+                if (bits == updated) { return failures.get(); }
+                if (this.bits.compareAndSet(word, bits, updated))
+                {
+                    // The bit flipped, replacing an outcome of the opposite kind.
+                    return failures.addAndGet(failed ? 1 : -1);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Reported when a call is rejected by an open circuit breaker. A single stackless instance is
+     * shared for each breaker.
+     */
+    public static final class OpenException extends RuntimeException
+    {
+        private OpenException()
+        {
+            super("Circuit breaker is open", null, false, false);
+        }
+    }
+    
+    /**
+     * Builds circuit breakers.
+     */
+    public static final class Builder
+    {
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private LongSupplier clock = System::nanoTime;
+        
+        private Builder() {}
+        
+        /**
+         * Sets how many of the most recent calls are considered.
+         *
+         * @param calls     number of calls in the sliding window
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if calls is less than 1
+         */
+        public Builder window(int calls)
+        {
+            if (calls < 1) { throw new IllegalArgumentException("window must be at least 1: " + calls); }
+            this.windowSize = calls;
+            return this;
+        }
+        
+        /**
+         * Sets how many calls must be in the window before the breaker can open.
+         *
+         * @param calls     minimum number of calls
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if calls is less than 1
+         */
+        public Builder minimumCalls(int calls)
+        {
+            if (calls < 1) { throw new IllegalArgumentException("minimumCalls must be at least 1: " + calls); }
+            this.minimumCalls = calls;
+            return this;
+        }
+        
+        /**
+         * Sets the fraction (greater than 0, up to 1) of failed calls in the window that opens the breaker.
+         *
+         * @param threshold     failure ratio
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if threshold is not greater than 0 and at most 1
+         */
+        public Builder failureThreshold(double threshold)
+        {
+            if (!(threshold > 0 && threshold <= 1)) { throw new IllegalArgumentException("failureThreshold must be in (0, 1]: " + threshold); }
+            this.failureThreshold = threshold;
+            return this;
+        }
+        
+        /**
+         * Sets how long the breaker stays open before allowing a trial call.
+         *
+         * @param duration  cooldown while open
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if duration is negative
+         */
+        public Builder openDuration(Duration duration)
+        {
+            Objects.requireNonNull(duration, "duration");
+            if (duration.isNegative()) { throw new IllegalArgumentException("openDuration must not be negative: " + duration); }
+            this.openDuration = duration;
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new circuit breaker.
+         *
+         * @return a new circuit breaker
+         */
+        public CircuitBreaker build()
+        {
+            if (minimumCalls > windowSize) { throw new IllegalStateException("minimumCalls (" + minimumCalls + ") exceeds window (" + windowSize + ")"); }
+            return new CircuitBreaker(this);
+        }
+    }
+}
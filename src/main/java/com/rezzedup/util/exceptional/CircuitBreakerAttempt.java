@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+
+/**
+ * Attempt that only makes calls permitted by a circuit breaker, reporting the outcome of each.
+ */
+final class CircuitBreakerAttempt extends DecoratedAttempt
+{
+    private final CircuitBreaker breaker;
+    
+    CircuitBreakerAttempt(Attempt origin, CircuitBreaker breaker)
+    {
+        super(origin);
+        this.breaker = Objects.requireNonNull(breaker, "breaker");
+    }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        CircuitBreaker.@NullOr State permit = breaker.tryAcquire();
+        if (permit == null) { throw breaker.rejected(); }
+        
+        @NullOr T value;
+        
+        try { value = proceed(supplier); }
+        catch (Throwable e)
+        {
+            breaker.onFailure(permit);
+            throw e;
+        }
+        
+        breaker.onSuccess(permit);
+        return value;
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "CircuitBreakerAttempt{origin=" + origin + ", breaker=" + breaker + "}";
+    }
+}
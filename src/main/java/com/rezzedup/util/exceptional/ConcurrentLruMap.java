@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded map that evicts its least recently used entries. Keys are spread across independently
+ * locked segments (each an access-ordered {@code LinkedHashMap}), so threads only contend when
+ * their keys land in the same segment. Eviction is exact within each segment. Like
+ * {@code LinkedHashMap}, a {@code null} key is allowed.
+ *
+ * @param <K>   key type
+ * @param <V>   value type
+ */
+final class ConcurrentLruMap<K, V>
+{
+    private static final int MAX_SEGMENTS = 16;
+    
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    
+    @SuppressWarnings("unchecked")
+    ConcurrentLruMap(int maximumSize)
+    {
+        if (maximumSize <= 0) { throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize); }
+        
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        int perSegment = (maximumSize + count - 1) / count;
+        
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) { segments[i] = new Segment<>(perSegment); }
+    }
+    
+    private Segment<K, V> segment(@NullOr Object key)
+    {
+        int hash = Objects.hashCode(key);
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+    
+    @NullOr V get(K key)
+    {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) { return segment.get(key); }
+    }
+    
+    @NullOr V put(K key, V value)
+    {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) { return segment.put(key, value); }
+    }
+    
+    @NullOr V compute(K key, BiFunction<? super K, ? super @NullOr V, ? extends @NullOr V> remapping)
+    {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) { return segment.compute(key, remapping); }
+    }
+    
+    @NullOr V remove(K key)
+    {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) { return segment.remove(key); }
+    }
+    
+    boolean remove(K key, V value)
+    {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) { return segment.remove(key, value); }
+    }
+    
+    int size()
+    {
+        int size = 0;
+        for (Segment<K, V> segment : segments)
+        {
+            synchronized (segment) { size += segment.size(); }
+        }
+        return size;
+    }
+    
+    void clear()
+    {
+        for (Segment<K, V> segment : segments)
+        {
+            synchronized (segment) { segment.clear(); }
+        }
+    }
+    
+    private static final class Segment<K, V> extends LinkedHashMap<K, V>
+    {
+        private final int capacity;
+        
+        Segment(int capacity)
+        {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) { return size() > capacity; }
+    }
+}
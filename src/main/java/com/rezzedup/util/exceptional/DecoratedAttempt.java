@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedDoubleSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedIntSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedLongSupplier;
+import com.rezzedup.util.exceptional.checked.CheckedRunnable;
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Attempt that changes how each action is called (retrying it, bounding its duration, etc.) while
+ * handing exceptions to the original attempt's catcher. Decorators stack: each one calls through
+ * the decorator it wraps, so {@code attempt.timeout(...).retrying(...)} retries timed attempts.
+ *
+ * <p>Every attempt in this package that changes how actions are called (including
+ * {@linkplain ExceptionStatistics#monitor(String, Attempt) monitored} attempts) is a decorator;
+ * any other attempt only contributes its catcher, so the action is called directly.</p>
+ */
+abstract class DecoratedAttempt implements Attempt
+{
+    final Attempt origin;
+    
+    DecoratedAttempt(Attempt origin)
+    {
+        this.origin = Objects.requireNonNull(origin, "origin");
+    }
+    
+    @Override
+    public Catcher<Exception> catcher() { return origin.catcher(); }
+    
+    /**
+     * Calls the supplier as decorated, throwing any exception rather than handling it.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       value type
+     *
+     * @return the result from the supplier
+     * @throws Exception if the supplier or decoration throws
+     */
+    abstract <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception;
+    
+    /**
+     * Calls the supplier through the wrapped decorator, or directly if the wrapped attempt isn't
+     * one (and so only provides a catcher).
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       value type
+     *
+     * @return the result from the supplier
+     * @throws Exception if the supplier or wrapped decoration throws
+     */
+    final <T> @NullOr T proceed(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        return (origin instanceof DecoratedAttempt) ? ((DecoratedAttempt) origin).call(supplier) : supplier.getOrThrow();
+    }
+    
+    @Override
+    public void run(CheckedRunnable<? extends Exception> runnable)
+    {
+        Attempt.super.run(() -> call(() -> {
+            runnable.runOrThrow();
+            return null;
+        }));
+    }
+    
+    @Override
+    public <T> Optional<T> get(CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+    {
+        return Attempt.super.get(() -> call(supplier));
+    }
+    
+    @Override
+    public <T> CompletableFuture<ThrowsOr<T>> getAsync(CheckedSupplier<@NullOr T, ? extends Exception> supplier, Executor executor)
+    {
+        return Attempt.super.getAsync(() -> call(supplier), executor);
+    }
+    
+    @Override
+    public OptionalInt getAsInt(CheckedIntSupplier<? extends Exception> supplier)
+    {
+        return Attempt.super.getAsInt(() -> call(supplier::getAsIntOrThrow));
+    }
+    
+    @Override
+    public int getAsIntOr(CheckedIntSupplier<? extends Exception> supplier, int fallback)
+    {
+        return Attempt.super.getAsIntOr(() -> call(supplier::getAsIntOrThrow), fallback);
+    }
+    
+    @Override
+    public int getAsIntOr(CheckedIntSupplier<? extends Exception> supplier, IntSupplier fallback)
+    {
+        return Attempt.super.getAsIntOr(() -> call(supplier::getAsIntOrThrow), fallback);
+    }
+    
+    @Override
+    public OptionalLong getAsLong(CheckedLongSupplier<? extends Exception> supplier)
+    {
+        return Attempt.super.getAsLong(() -> call(supplier::getAsLongOrThrow));
+    }
+    
+    @Override
+    public long getAsLongOr(CheckedLongSupplier<? extends Exception> supplier, long fallback)
+    {
+        return Attempt.super.getAsLongOr(() -> call(supplier::getAsLongOrThrow), fallback);
+    }
+    
+    @Override
+    public long getAsLongOr(CheckedLongSupplier<? extends Exception> supplier, LongSupplier fallback)
+    {
+        return Attempt.super.getAsLongOr(() -> call(supplier::getAsLongOrThrow), fallback);
+    }
+    
+    @Override
+    public OptionalDouble getAsDouble(CheckedDoubleSupplier<? extends Exception> supplier)
+    {
+        return Attempt.super.getAsDouble(() -> call(supplier::getAsDoubleOrThrow));
+    }
+    
+    @Override
+    public double getAsDoubleOr(CheckedDoubleSupplier<? extends Exception> supplier, double fallback)
+    {
+        return Attempt.super.getAsDoubleOr(() -> call(supplier::getAsDoubleOrThrow), fallback);
+    }
+    
+    @Override
+    public double getAsDoubleOr(CheckedDoubleSupplier<? extends Exception> supplier, DoubleSupplier fallback)
+    {
+        return Attempt.super.getAsDoubleOr(() -> call(supplier::getAsDoubleOrThrow), fallback);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Catcher that only hands the first occurrence of each distinct exception within a window to its
+ * delegate, counting any repeats instead.
+ *
+ * <p>Exceptions are considered the same if they have the same {@linkplain #fingerprint(Throwable, int)
+ * fingerprint}: their type, their top stack frames, and the types of their causes. Messages are
+ * ignored on purpose, since they often contain ids or timestamps that differ every time.</p>
+ *
+ * <p>Fingerprints are remembered in a bounded map that evicts the least recently seen ones, so
+ * memory use stays flat no matter how many distinct exceptions occur.</p>
+ *
+ * @param <E>   exception type
+ *
+ * @see Catcher#deduplicate(Catcher)
+ */
+public final class DeduplicatingCatcher<E extends Throwable> implements Catcher<E>
+{
+    private static final int MAX_CAUSES = 8;
+    
+    /**
+     * Computes a cheap 64-bit fingerprint of the provided exception from its type, the top
+     * {@code frames} of its stack trace, and the types of its causes.
+     *
+     * @param exception     the exception
+     * @param frames        maximum number of stack frames to consider
+     *
+     * @return the fingerprint
+     */
+    public static long fingerprint(Throwable exception, int frames)
+    {
+        long hash = mix(0, exception.getClass().getName().hashCode());
+        
+        StackTraceElement[] trace = exception.getStackTrace();
+        for (int i = 0; i < Math.min(frames, trace.length); i++)
+        {
+            StackTraceElement frame = trace[i];
+            hash = mix(hash, frame.getClassName().hashCode());
+            hash = mix(hash, frame.getMethodName().hashCode());
+            hash = mix(hash, frame.getLineNumber());
+        }
+        
+        // Bounded so that cyclic cause chains can't loop forever.
+        @NullOr Throwable cause = exception.getCause();
+        for (int i = 0; cause != null && i < MAX_CAUSES; i++, cause = cause.getCause())
+        {
+            hash = mix(hash, cause.getClass().getName().hashCode());
+        }
+        
+        // Final avalanche (from MurmurHash3's fmix64).
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+    
+    private static long mix(long hash, int value)
+    {
+        return (hash ^ value) * 0x9e3779b97f4a7c15L;
+    }
+    
+    private static final class Occurrence
+    {
+        final long firstSeen;
+        volatile long repeats = 0; // only written while holding the map segment's lock
+        
+        Occurrence(long firstSeen) { this.firstSeen = firstSeen; }
+    }
+    
+    private final Catcher<? super E> delegate;
+    private final int frames;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final ConcurrentLruMap<Long, Occurrence> occurrences;
+    
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder repeats = new LongAdder();
+    
+    private DeduplicatingCatcher(Builder<E> builder)
+    {
+        this.delegate = builder.delegate;
+        this.frames = builder.frames;
+        this.windowNanos = builder.window.toNanos();
+        this.clock = builder.clock;
+        this.occurrences = new ConcurrentLruMap<>(builder.maximumSize);
+    }
+    
+    @Override
+    public void handle(E exception)
+    {
+        Long key = fingerprint(exception, frames);
+        Occurrence fresh = new Occurrence(clock.getAsLong());
+        
+        @NullOr Occurrence occurrence = occurrences.compute(key, (k, existing) ->
+        {
+            if (existing == null || fresh.firstSeen - existing.firstSeen >= windowNanos) { return fresh; }
+            existing.repeats++;
+            return existing;
+        });
+        
+        if (occurrence == fresh)
+        {
+            forwarded.increment();
+            delegate.handle(exception);
+        }
+        else
+        {
+            repeats.increment();
+        }
+    }
+    
+    /**
+     * Gets the number of times an exception with the same fingerprint as the provided exception
+     * has repeated in its current window.
+     *
+     * @param exception     the exception
+     *
+     * @return the number of repeats, or zero if not seen recently
+     */
+    public long repeatsOf(Throwable exception)
+    {
+        Long key = fingerprint(exception, frames);
+        @NullOr Occurrence occurrence = occurrences.get(key);
+        return (occurrence == null) ? 0 : occurrence.repeats;
+    }
+    
+    /**
+     * Gets the delegate that first occurrences are handed to.
+     *
+     * @return the delegate catcher
+     */
+    public Catcher<? super E> delegate() { return delegate; }
+    
+    /**
+     * Gets the total number of exceptions handed to the delegate.
+     *
+     * @return the number of forwarded exceptions
+     */
+    public long forwarded() { return forwarded.sum(); }
+    
+    /**
+     * Gets the total number of repeated exceptions that weren't handed to the delegate.
+     *
+     * @return the number of repeats
+     */
+    public long repeats() { return repeats.sum(); }
+    
+    @Override
+    public String toString()
+    {
+        return "DeduplicatingCatcher{delegate=" + delegate + ", forwarded=" + forwarded() + ", repeats=" + repeats() + "}";
+    }
+    
+    /**
+     * Builds deduplicating catchers.
+     *
+     * @param <E>   exception type
+     */
+    public static final class Builder<E extends Throwable>
+    {
+        private final Catcher<? super E> delegate;
+        private int frames = 8;
+        private Duration window = Duration.ofMinutes(1);
+        private int maximumSize = 1024;
+        private LongSupplier clock = System::nanoTime;
+        
+        Builder(Catcher<? super E> delegate)
+        {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+        
+        /**
+         * Sets how many of the top stack frames are part of the fingerprint. Defaults to 8.
+         *
+         * @param frames    number of stack frames
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if frames is negative
+         */
+        public Builder<E> frames(int frames)
+        {
+            if (frames < 0) { throw new IllegalArgumentException("frames must not be negative: " + frames); }
+            this.frames = frames;
+            return this;
+        }
+        
+        /**
+         * Sets how long repeats are suppressed after the first occurrence. Defaults to one minute.
+         *
+         * @param window    length of the window
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if window is not positive
+         */
+        public Builder<E> window(Duration window)
+        {
+            Objects.requireNonNull(window, "window");
+            if (window.isNegative() || window.isZero()) { throw new IllegalArgumentException("window must be positive: " + window); }
+            
+            this.window = window;
+            return this;
+        }
+        
+        /**
+         * Sets the maximum number of fingerprints to remember. Defaults to 1024.
+         *
+         * @param maximumSize   maximum number of fingerprints
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if maximumSize is not positive
+         */
+        public Builder<E> maximumSize(int maximumSize)
+        {
+            if (maximumSize <= 0) { throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize); }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder<E> clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new deduplicating catcher.
+         *
+         * @return a new deduplicating catcher
+         */
+        public DeduplicatingCatcher<E> build()
+        {
+            return new DeduplicatingCatcher<>(this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Catcher that routes exceptions to handlers by exception type.
+ *
+ * <p>The most specific registered handler for each concrete exception class is resolved only once,
+ * then cached, so handling an exception is a single lookup regardless of how many handlers are
+ * registered.</p>
+ *
+ * @param <E>   exception type
+ *
+ * @see Catcher#dispatch()
+ */
+public final class DispatchingCatcher<E extends Throwable> implements Catcher<E>
+{
+    private final Map<Class<?>, Catcher<?>> handlers;
+    private final Catcher<? super E> otherwise;
+    
+    private final ClassValue<Catcher<?>> resolved = new ClassValue<>()
+    {
+        @Override
+        protected Catcher<?> computeValue(Class<?> type)
+        {
+            // Walk up the hierarchy: the nearest registered type is the most specific one.
+            for (@NullOr Class<?> current = type; current != null; current = current.getSuperclass())
+            {
+                @NullOr Catcher<?> handler = handlers.get(current);
+                if (handler != null) { return handler; }
+            }
+            return otherwise;
+        }
+    };
+    
+    private DispatchingCatcher(Map<Class<?>, Catcher<?>> handlers, Catcher<? super E> otherwise)
+    {
+        this.handlers = handlers;
+        this.otherwise = otherwise;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void handle(E exception)
+    {
+        ((Catcher<E>) resolved.get(exception.getClass())).handle(exception);
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "DispatchingCatcher{handlers=" + handlers + ", otherwise=" + otherwise + "}";
+    }
+    
+    /**
+     * Builds dispatching catchers.
+     *
+     * @param <E>   exception type
+     */
+    public static final class Builder<E extends Throwable>
+    {
+        private final Map<Class<?>, Catcher<?>> handlers = new LinkedHashMap<>();
+        
+        Builder() {}
+        
+        /**
+         * Registers a handler for the provided exception type and all of its subtypes (unless a more
+         * specific handler is registered for them). Registering the same type again replaces its handler.
+         *
+         * @param type      exception type
+         * @param handler   handles exceptions of that type
+         * @param <X>       exception type
+         *
+         * @return this builder
+         */
+        public <X extends E> Builder<E> on(Class<X> type, Catcher<? super X> handler)
+        {
+            Objects.requireNonNull(type, "type");
+            Objects.requireNonNull(handler, "handler");
+            handlers.put(type, handler);
+            return this;
+        }
+        
+        /**
+         * Creates a new dispatching catcher with all registered handlers, using the provided
+         * catcher for any exception without a matching handler.
+         *
+         * @param otherwise     handles exceptions without a registered handler
+         *
+         * @return a new dispatching catcher
+         */
+        public DispatchingCatcher<E> otherwise(Catcher<? super E> otherwise)
+        {
+            Objects.requireNonNull(otherwise, "otherwise");
+            return new DispatchingCatcher<>(Map.copyOf(handlers), otherwise);
+        }
+    }
+}
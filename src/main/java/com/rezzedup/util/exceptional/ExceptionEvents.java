@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedRunnable;
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Optional;
+
+/**
+ * Entry point for JDK Flight Recorder events. The {@code jdk.jfr} module is optional, so nothing
+ * here mentions its types: they're confined to {@link JfrEvents}, which is only ever loaded if the
+ * module is available.
+ */
+final class ExceptionEvents
+{
+    private ExceptionEvents() { throw new UnsupportedOperationException(); }
+    
+    static final boolean AVAILABLE = detect();
+    
+    // Shared so that events can tell what the built-in attempts did with an exception.
+    static final Catcher<Exception> IGNORE = Catcher::ignore;
+    static final Catcher<Exception> PRINT = Catcher::print;
+    
+    private static boolean detect()
+    {
+        try
+        {
+            Class<?> event = Class.forName("jdk.jfr.Event", false, ExceptionEvents.class.getClassLoader());
+            return ExceptionEvents.class.getModule().canRead(event.getModule());
+        }
+        catch (ClassNotFoundException | LinkageError e) { return false; }
+    }
+    
+    static boolean isHandledEnabled() { return AVAILABLE && JfrEvents.isHandledEnabled(); }
+    
+    static boolean isAttemptEnabled() { return AVAILABLE && JfrEvents.isAttemptEnabled(); }
+    
+    static <E extends Throwable> void handle(Catcher<E> catcher, E exception)
+    {
+        JfrEvents.handle(catcher, exception);
+    }
+    
+    static void run(Attempt attempt, CheckedRunnable<? extends Exception> runnable)
+    {
+        JfrEvents.run(attempt, runnable);
+    }
+    
+    static <T> Optional<T> get(Attempt attempt, CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+    {
+        return JfrEvents.get(attempt, supplier);
+    }
+    
+    static void rethrown(Throwable cause, boolean stackless)
+    {
+        if (AVAILABLE) { JfrEvents.rethrown(cause, stackless); }
+    }
+    
+    static String action(Catcher<?> catcher)
+    {
+        if (catcher == IGNORE) { return "ignored"; }
+        if (catcher == PRINT) { return "printed"; }
+        return "handled";
+    }
+    
+    /**
+     * Gets the first frame outside of this library, which is where it was called from.
+     */
+    static @NullOr String site()
+    {
+        return StackWalker.getInstance().walk(frames ->
+            frames.filter(frame -> !isLibraryClass(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse(null)
+        );
+    }
+    
+    private static boolean isLibraryClass(String name)
+    {
+        int lastDot = name.lastIndexOf('.');
+        String pkg = (lastDot < 0) ? "" : name.substring(0, lastDot);
+        return pkg.equals("com.rezzedup.util.exceptional") || pkg.equals("com.rezzedup.util.exceptional.checked");
+    }
+}
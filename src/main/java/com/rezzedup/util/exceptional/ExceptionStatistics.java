@@ -0,0 +1,387 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import javax.management.ObjectName;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts exceptions by type and by (optional) call-site name, without logging anything.
+ *
+ * <p>Counting catchers created by {@link #counting(Catcher)} record each exception and then hand it
+ * to the next catcher, so they can be chained in front of any existing catcher. Recording is a
+ * cached per-type lookup followed by striped counter increments, so it scales across many threads
+ * without contention.</p>
+ *
+ * <pre>{@code
+ * ExceptionStatistics statistics = ExceptionStatistics.create();
+ * Attempt attempt = Attempt.with(statistics.counting("config", Catcher::ignore));
+ * }</pre>
+ *
+ * <p>Attempts can also be {@linkplain #monitor(String, Attempt) monitored} by name, which counts
+ * their successful calls in addition to their failures. Statistics are exposed over JMX only once
+ * {@linkplain #registerMXBean(String) registered}.</p>
+ */
+public final class ExceptionStatistics
+{
+    /**
+     * Creates a new, empty statistics registry.
+     *
+     * @return new statistics
+     */
+    public static ExceptionStatistics create() { return new ExceptionStatistics(); }
+    
+    static final class Counter
+    {
+        private final LongAdder count = new LongAdder();
+        private final long createdNanos = System.nanoTime();
+        private volatile long lastSeenMillis = 0;
+        
+        void increment()
+        {
+            count.increment();
+            long now = System.currentTimeMillis();
+            // Only write when it changes so that busy counters don't bounce the cache line on every call.
+            if (lastSeenMillis != now) { lastSeenMillis = now; }
+        }
+        
+        Snapshot snapshot()
+        {
+            return new Snapshot(count.sum(), lastSeenMillis, Duration.ofNanos(System.nanoTime() - createdNanos));
+        }
+    }
+    
+    /**
+     * Registered type counter. The type is only weakly referenced so that recording an exception
+     * doesn't keep its class (and class loader) alive.
+     */
+    private static final class TypeCounter
+    {
+        final WeakReference<Class<?>> type;
+        final Counter counter = new Counter();
+        
+        TypeCounter(Class<?> type) { this.type = new WeakReference<>(type); }
+    }
+    
+    private final Queue<TypeCounter> types = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<String, Counter> sites = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MonitoredAttempt.Counters> attempts = new ConcurrentHashMap<>();
+    
+    private final ClassValue<TypeCounter> counters = new ClassValue<>()
+    {
+        @Override
+        protected TypeCounter computeValue(Class<?> type)
+        {
+            // May race and register an extra, never-used counter; readers look counters up by type.
+            TypeCounter counter = new TypeCounter(type);
+            types.add(counter);
+            return counter;
+        }
+    };
+    
+    private ExceptionStatistics() {}
+    
+    Counter site(String site)
+    {
+        Objects.requireNonNull(site, "site");
+        return sites.computeIfAbsent(site, k -> new Counter());
+    }
+    
+    /**
+     * Records the provided exception.
+     *
+     * @param exception     the exception
+     */
+    public void record(Throwable exception)
+    {
+        counters.get(exception.getClass()).counter.increment();
+    }
+    
+    /**
+     * Records the provided exception as having occurred at the named call site.
+     *
+     * @param site          call-site name
+     * @param exception     the exception
+     */
+    public void record(String site, Throwable exception)
+    {
+        record(exception);
+        site(site).increment();
+    }
+    
+    /**
+     * Creates a catcher that records exceptions then hands them to the next catcher.
+     *
+     * @param next  handles exceptions after they're recorded
+     * @param <E>   exception type
+     *
+     * @return a new counting catcher
+     */
+    public <E extends Throwable> Catcher<E> counting(Catcher<? super E> next)
+    {
+        Objects.requireNonNull(next, "next");
+        return exception -> {
+            record(exception);
+            next.handle(exception);
+        };
+    }
+    
+    /**
+     * Creates a catcher that records exceptions as having occurred at the named call site then
+     * hands them to the next catcher.
+     *
+     * @param site  call-site name
+     * @param next  handles exceptions after they're recorded
+     * @param <E>   exception type
+     *
+     * @return a new counting catcher
+     */
+    public <E extends Throwable> Catcher<E> counting(String site, Catcher<? super E> next)
+    {
+        Objects.requireNonNull(next, "next");
+        Counter counter = site(site); // resolved once, not per exception
+        return exception -> {
+            record(exception);
+            counter.increment();
+            next.handle(exception);
+        };
+    }
+    
+    /**
+     * Wraps the provided attempt so that its calls and failures are counted under the provided
+     * name. Failures are also recorded by type before being handed to the attempt's own catcher.
+     * Attempts monitored with the same name share counts.
+     *
+     * <p>Calls go through the monitored attempt, so its decorations still apply: monitoring a
+     * {@linkplain Attempt#retrying(RetryPolicy) retrying} attempt counts each call once, whereas
+     * retrying a monitored attempt counts every try.</p>
+     *
+     * @param name      attempt name
+     * @param attempt   the attempt to monitor
+     *
+     * @return a new monitored attempt
+     */
+    public Attempt monitor(String name, Attempt attempt)
+    {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(attempt, "attempt");
+        MonitoredAttempt.Counters counters = attempts.computeIfAbsent(name, k -> new MonitoredAttempt.Counters());
+        return new MonitoredAttempt(name, attempt, counters, this);
+    }
+    
+    /**
+     * Gets a snapshot of the counts for every exception type recorded so far, excluding types
+     * whose classes have since been unloaded.
+     *
+     * @return snapshots by exact exception type
+     */
+    public Map<Class<?>, Snapshot> byType()
+    {
+        Map<Class<?>, Snapshot> snapshots = new LinkedHashMap<>();
+        
+        for (TypeCounter registered : types)
+        {
+            @NullOr Class<?> type = registered.type.get();
+            if (type != null) { snapshots.computeIfAbsent(type, k -> counters.get(k).counter.snapshot()); }
+        }
+        
+        return Collections.unmodifiableMap(snapshots);
+    }
+    
+    /**
+     * Gets a snapshot of the counts for every named call site.
+     *
+     * @return snapshots by call-site name
+     */
+    public Map<String, Snapshot> bySite()
+    {
+        Map<String, Snapshot> snapshots = new LinkedHashMap<>();
+        sites.forEach((site, counter) -> snapshots.put(site, counter.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+    
+    /**
+     * Gets a snapshot of the calls for every monitored attempt.
+     *
+     * @return snapshots by attempt name
+     */
+    public Map<String, AttemptSnapshot> byAttempt()
+    {
+        Map<String, AttemptSnapshot> snapshots = new LinkedHashMap<>();
+        attempts.forEach((name, counters) -> {
+            // Read failures first: they're counted after calls, so successes can't go negative.
+            long failures = counters.failures.sum();
+            snapshots.put(name, new AttemptSnapshot(counters.calls.sum(), failures));
+        });
+        return Collections.unmodifiableMap(snapshots);
+    }
+    
+    /**
+     * Gets the total number of recorded exceptions of any type, including types whose classes
+     * have since been unloaded.
+     *
+     * @return the total count
+     */
+    public long total()
+    {
+        long total = 0;
+        for (TypeCounter registered : types) { total += registered.counter.count.sum(); }
+        return total;
+    }
+    
+    /**
+     * Registers these statistics with the platform MBean server under the object name
+     * {@code com.rezzedup.util.exceptional:type=ExceptionStatistics,name=<name>}.
+     *
+     * <p>The {@code java.management} module is an optional dependency, so it must be present at
+     * runtime to use this method.</p>
+     *
+     * @param name  name distinguishing these statistics from others
+     *
+     * @return the registered object name
+     * @throws IllegalStateException if registration fails (for example, if the name is taken)
+     */
+    public ObjectName registerMXBean(String name) { return ExceptionStatisticsJmx.register(this, name); }
+    
+    /**
+     * Unregisters statistics previously registered under the provided name, if any.
+     *
+     * <p>The {@code java.management} module is an optional dependency, so it must be present at
+     * runtime to use this method.</p>
+     *
+     * @param name  name distinguishing these statistics from others
+     */
+    public static void unregisterMXBean(String name) { ExceptionStatisticsJmx.unregister(name); }
+    
+    @Override
+    public String toString()
+    {
+        return "ExceptionStatistics{types=" + byType() + ", sites=" + bySite() + ", attempts=" + byAttempt() + "}";
+    }
+    
+    /**
+     * Immutable point-in-time view of a counter.
+     */
+    public static final class Snapshot
+    {
+        private final long count;
+        private final long lastSeenMillis;
+        private final Duration age;
+        
+        Snapshot(long count, long lastSeenMillis, Duration age)
+        {
+            this.count = count;
+            this.lastSeenMillis = lastSeenMillis;
+            this.age = age;
+        }
+        
+        /**
+         * Gets the number of recorded exceptions.
+         *
+         * @return the count
+         */
+        public long count() { return count; }
+        
+        /**
+         * Gets when the most recent exception was recorded.
+         *
+         * @return the last-seen time, or empty if never seen
+         */
+        public Optional<Instant> lastSeen()
+        {
+            return (lastSeenMillis == 0) ? Optional.empty() : Optional.of(Instant.ofEpochMilli(lastSeenMillis));
+        }
+        
+        /**
+         * Gets how long the counter has existed.
+         *
+         * @return the age of the counter
+         */
+        public Duration age() { return age; }
+        
+        /**
+         * Gets the average number of exceptions per second since the counter was created.
+         *
+         * @return the average rate per second
+         */
+        public double ratePerSecond()
+        {
+            long nanos = age.toNanos();
+            return (nanos <= 0) ? 0 : count / (nanos / 1e9);
+        }
+        
+        @Override
+        public String toString()
+        {
+            return "Snapshot{count=" + count + ", lastSeen=" + lastSeen().orElse(null) + ", ratePerSecond=" + ratePerSecond() + "}";
+        }
+    }
+    
+    /**
+     * Immutable point-in-time view of a monitored attempt's calls.
+     */
+    public static final class AttemptSnapshot
+    {
+        private final long calls;
+        private final long failures;
+        
+        AttemptSnapshot(long calls, long failures)
+        {
+            this.calls = calls;
+            this.failures = failures;
+        }
+        
+        /**
+         * Gets the total number of calls.
+         *
+         * @return the number of calls
+         */
+        public long calls() { return calls; }
+        
+        /**
+         * Gets the number of calls that completed without an exception.
+         *
+         * @return the number of successes
+         */
+        public long successes() { return calls - failures; }
+        
+        /**
+         * Gets the number of calls that threw an exception.
+         *
+         * @return the number of failures
+         */
+        public long failures() { return failures; }
+        
+        /**
+         * Gets the ratio of failed calls to all calls.
+         *
+         * @return the failure ratio (0 to 1)
+         */
+        public double failureRatio() { return (calls == 0) ? 0 : (double) failures / calls; }
+        
+        @Override
+        public String toString()
+        {
+            return "AttemptSnapshot{calls=" + calls + ", failures=" + failures + "}";
+        }
+    }
+}
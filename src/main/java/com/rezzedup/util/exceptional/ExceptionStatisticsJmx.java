@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JMX registration for {@link ExceptionStatistics}. Only loaded once an MXBean is registered or
+ * unregistered, so the optional {@code java.management} module isn't needed just to count
+ * exceptions.
+ */
+final class ExceptionStatisticsJmx
+{
+    private ExceptionStatisticsJmx() { throw new UnsupportedOperationException(); }
+    
+    static ObjectName register(ExceptionStatistics statistics, String name)
+    {
+        try
+        {
+            ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(statistics), objectName);
+            return objectName;
+        }
+        catch (JMException e) { throw new IllegalStateException("Could not register MXBean: " + name, e); }
+    }
+    
+    static void unregister(String name)
+    {
+        try { ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name)); }
+        catch (JMException ignored) {}
+    }
+    
+    private static ObjectName objectName(String name) throws JMException
+    {
+        Objects.requireNonNull(name, "name");
+        return new ObjectName("com.rezzedup.util.exceptional:type=ExceptionStatistics,name=" + ObjectName.quote(name));
+    }
+    
+    private static final class Bean implements ExceptionStatisticsMXBean
+    {
+        private final ExceptionStatistics statistics;
+        
+        Bean(ExceptionStatistics statistics) { this.statistics = statistics; }
+        
+        @Override
+        public long getTotalExceptions() { return statistics.total(); }
+        
+        @Override
+        public Map<String, Long> getExceptionCounts()
+        {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            statistics.byType().forEach((type, snapshot) -> counts.put(type.getName(), snapshot.count()));
+            return counts;
+        }
+        
+        @Override
+        public Map<String, Long> getSiteCounts()
+        {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            statistics.bySite().forEach((site, snapshot) -> counts.put(site, snapshot.count()));
+            return counts;
+        }
+        
+        @Override
+        public Map<String, Long> getAttemptSuccesses()
+        {
+            Map<String, Long> successes = new LinkedHashMap<>();
+            statistics.byAttempt().forEach((name, snapshot) -> successes.put(name, snapshot.successes()));
+            return successes;
+        }
+        
+        @Override
+        public Map<String, Long> getAttemptFailures()
+        {
+            Map<String, Long> failures = new LinkedHashMap<>();
+            statistics.byAttempt().forEach((name, snapshot) -> failures.put(name, snapshot.failures()));
+            return failures;
+        }
+        
+        @Override
+        public Map<String, Double> getAttemptFailureRatios()
+        {
+            Map<String, Double> ratios = new LinkedHashMap<>();
+            statistics.byAttempt().forEach((name, snapshot) -> ratios.put(name, snapshot.failureRatio()));
+            return ratios;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing {@link ExceptionStatistics} over JMX.
+ *
+ * @see ExceptionStatistics#registerMXBean(String)
+ */
+public interface ExceptionStatisticsMXBean
+{
+    /**
+     * Gets the total number of recorded exceptions.
+     *
+     * @return the total count
+     */
+    long getTotalExceptions();
+    
+    /**
+     * Gets the number of recorded exceptions by exception class name.
+     *
+     * @return counts by exception class name
+     */
+    Map<String, Long> getExceptionCounts();
+    
+    /**
+     * Gets the number of recorded exceptions by call-site name.
+     *
+     * @return counts by call-site name
+     */
+    Map<String, Long> getSiteCounts();
+    
+    /**
+     * Gets the number of successful calls by monitored attempt name.
+     *
+     * @return successes by attempt name
+     */
+    Map<String, Long> getAttemptSuccesses();
+    
+    /**
+     * Gets the number of failed calls by monitored attempt name.
+     *
+     * @return failures by attempt name
+     */
+    Map<String, Long> getAttemptFailures();
+    
+    /**
+     * Gets the ratio of failed calls to all calls by monitored attempt name.
+     *
+     * @return failure ratios (0 to 1) by attempt name
+     */
+    Map<String, Double> getAttemptFailureRatios();
+}
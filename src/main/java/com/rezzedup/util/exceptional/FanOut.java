@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs batches of potentially exceptional suppliers concurrently, collecting each outcome as a
+ * {@link ThrowsOr} in input order.
+ *
+ * <p>By default, every supplier runs to completion. When failing fast, the first exception cancels
+ * (and interrupts) all unfinished siblings. With a deadline, suppliers still unfinished when it
+ * passes are cancelled too. Cancelled suppliers complete with the exception explaining why:
+ * a {@link CancellationException} after a sibling failed, a {@link TimeoutException} after the
+ * deadline, or an {@link InterruptedException} if the joining thread was interrupted.</p>
+ *
+ * <pre>{@code
+ * List<CheckedSupplier<User, IOException>> lookups = List.of(() -> lookup(1), () -> lookup(2));
+ *
+ * List<ThrowsOr<User>> users =
+ *     FanOut.builder()
+ *         .failFast()
+ *         .deadline(Duration.ofSeconds(2))
+ *         .build()
+ *         .join(lookups);
+ * }</pre>
+ */
+public final class FanOut
+{
+    /**
+     * Creates a new builder which collects all results without a deadline, running suppliers on the
+     * {@link VirtualThreads#executor() default executor}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    private final Executor executor;
+    private final boolean failFast;
+    private final @NullOr Duration deadline;
+    
+    private FanOut(Builder builder)
+    {
+        this.executor = builder.executor;
+        this.failFast = builder.failFast;
+        this.deadline = builder.deadline;
+    }
+    
+    /**
+     * Runs all suppliers concurrently and waits for their outcomes.
+     *
+     * <p>If the calling thread is interrupted while waiting, unfinished suppliers are cancelled and
+     * the thread's interrupt status is restored.</p>
+     *
+     * @param suppliers     potentially exceptional suppliers
+     * @param <T>           value type
+     *
+     * @return the outcome of each supplier, in input order
+     */
+    public <T> List<ThrowsOr<T>> join(List<? extends CheckedSupplier<? extends T, ? extends Exception>> suppliers)
+    {
+        Objects.requireNonNull(suppliers, "suppliers");
+        
+        Batch<T> batch = new Batch<>(suppliers.size());
+        for (CheckedSupplier<? extends T, ? extends Exception> supplier : suppliers)
+        {
+            Task<T> task = batch.add(Objects.requireNonNull(supplier, "supplier"));
+            
+            try { executor.execute(task); }
+            catch (RejectedExecutionException e) { task.reject(e); }
+        }
+        
+        batch.await();
+        return batch.results();
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "FanOut{executor=" + executor + ", failFast=" + failFast + ", deadline=" + deadline + "}";
+    }
+    
+    private final class Batch<T>
+    {
+        final List<Task<T>> tasks;
+        final CountDownLatch remaining;
+        final AtomicReference<@NullOr Throwable> cancellation = new AtomicReference<>();
+        
+        Batch(int size)
+        {
+            this.tasks = new ArrayList<>(size);
+            this.remaining = new CountDownLatch(size);
+        }
+        
+        Task<T> add(CheckedSupplier<? extends T, ? extends Exception> supplier)
+        {
+            Task<T> task = new Task<>(this, supplier);
+            
+            synchronized (tasks)
+            {
+                tasks.add(task);
+                // A sibling may have already failed while tasks were still being submitted.
+                if (cancellation.get() != null) { task.cancel(true); }
+            }
+            
+            return task;
+        }
+        
+        void await()
+        {
+            try
+            {
+                if (deadline == null) { remaining.await(); }
+                else if (!remaining.await(deadline.toNanos(), TimeUnit.NANOSECONDS))
+                {
+                    cancel(new TimeoutException("Exceeded deadline of " + deadline));
+                }
+            }
+            catch (InterruptedException e)
+            {
+                cancel(e);
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        void failed()
+        {
+            if (failFast) { cancel(new CancellationException("Cancelled after a sibling failed")); }
+        }
+        
+        void cancel(Throwable reason)
+        {
+            if (!cancellation.compareAndSet(null, reason)) { return; }
+            synchronized (tasks) { for (Task<T> task : tasks) { task.cancel(true); } }
+        }
+        
+        List<ThrowsOr<T>> results()
+        {
+            List<ThrowsOr<T>> results = new ArrayList<>(tasks.size());
+            for (Task<T> task : tasks) { results.add(task.outcome()); }
+            return Collections.unmodifiableList(results);
+        }
+    }
+    
+    private static final class Task<T> extends FutureTask<ThrowsOr<T>>
+    {
+        private final Batch<T> batch;
+        
+        Task(Batch<T> batch, CheckedSupplier<? extends T, ? extends Exception> supplier)
+        {
+            super(() -> {
+                try { return ThrowsOr.maybe(supplier.getOrThrow()); }
+                catch (Exception e) { return ThrowsOr.raise(e); }
+            });
+            
+            this.batch = batch;
+        }
+        
+        void reject(RejectedExecutionException e) { setException(e); }
+        
+        @Override
+        protected void done()
+        {
+            if (!isCancelled() && outcome().exception().isPresent()) { batch.failed(); }
+            batch.remaining.countDown();
+        }
+        
+        ThrowsOr<T> outcome()
+        {
+            if (!isDone())
+            {
+                @NullOr Throwable reason = batch.cancellation.get();
+                return ThrowsOr.raise((reason != null) ? reason : new CancellationException());
+            }
+            
+            try { return get(); }
+            catch (CancellationException e)
+            {
+                @NullOr Throwable reason = batch.cancellation.get();
+                return ThrowsOr.raise((reason != null) ? reason : e);
+            }
+            catch (ExecutionException e) { return ThrowsOr.raise(e.getCause()); }
+            catch (InterruptedException e)
+            {
+                // Unreachable: the task is already done.
+                Thread.currentThread().interrupt();
+                return ThrowsOr.raise(e);
+            }
+        }
+    }
+    
+    /**
+     * Builds fan-outs.
+     */
+    public static final class Builder
+    {
+        private Executor executor = VirtualThreads.executor();
+        private boolean failFast = false;
+        private @NullOr Duration deadline = null;
+        
+        private Builder() {}
+        
+        /**
+         * Sets the executor that runs each supplier.
+         *
+         * @param executor  executor
+         *
+         * @return this builder
+         */
+        public Builder executor(Executor executor)
+        {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+        
+        /**
+         * Cancels all unfinished suppliers as soon as any supplier throws.
+         *
+         * @return this builder
+         */
+        public Builder failFast()
+        {
+            this.failFast = true;
+            return this;
+        }
+        
+        /**
+         * Lets every supplier run to completion regardless of exceptions (the default).
+         *
+         * @return this builder
+         */
+        public Builder collectAll()
+        {
+            this.failFast = false;
+            return this;
+        }
+        
+        /**
+         * Sets how long to wait for all suppliers, after which unfinished suppliers are cancelled.
+         *
+         * @param deadline  maximum time to wait
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if deadline is negative
+         */
+        public Builder deadline(Duration deadline)
+        {
+            Objects.requireNonNull(deadline, "deadline");
+            if (deadline.isNegative()) { throw new IllegalArgumentException("deadline must not be negative: " + deadline); }
+            this.deadline = deadline;
+            return this;
+        }
+        
+        /**
+         * Creates a new fan-out.
+         *
+         * @return a new fan-out
+         */
+        public FanOut build() { return new FanOut(this); }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attempt that starts a second copy of a slow call, returning whichever copy succeeds first and
+ * interrupting the other.
+ */
+final class HedgedAttempt extends DecoratedAttempt
+{
+    private final Hedging hedging;
+    
+    HedgedAttempt(Attempt origin, Hedging hedging)
+    {
+        super(origin);
+        this.hedging = Objects.requireNonNull(hedging, "hedging");
+    }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        Race<T> race = new Race<>();
+        FutureTask<?> primary = race.start(supplier);
+        @NullOr FutureTask<?> hedge = null;
+        
+        try
+        {
+            try { return race.winner.get(hedging.delayNanos(), TimeUnit.NANOSECONDS); }
+            catch (TimeoutException slow) { hedge = race.start(supplier); }
+            
+            return race.winner.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) { throw (Exception) cause; }
+            throw Sneaky.rethrow(cause);
+        }
+        finally
+        {
+            primary.cancel(true);
+            if (hedge != null) { hedge.cancel(true); }
+        }
+    }
+    
+    /**
+     * Copies of a call racing to complete the winner. The winner fails only once every started
+     * copy has failed, with the last failure.
+     */
+    private final class Race<T>
+    {
+        final CompletableFuture<@NullOr T> winner = new CompletableFuture<>();
+        final AtomicInteger running = new AtomicInteger();
+        
+        // Latency is measured from the original call, not from whichever copy wins, so that hedged
+        // calls are recorded as taking at least the hedge delay instead of dragging it down.
+        final long started = System.nanoTime();
+        
+        FutureTask<?> start(CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+        {
+            running.incrementAndGet();
+            
+            FutureTask<?> task = new FutureTask<>(() -> {
+                try
+                {
+                    @NullOr T value = proceed(supplier);
+                    if (winner.complete(value)) { hedging.record(System.nanoTime() - started); }
+                }
+                catch (Throwable e) { lost(e); }
+                return null;
+            });
+            
+            try { hedging.executor().execute(task); }
+            catch (RejectedExecutionException e) { lost(e); }
+            
+            return task;
+        }
+        
+        void lost(Throwable exception)
+        {
+            if (running.decrementAndGet() == 0) { winner.completeExceptionally(exception); }
+        }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "HedgedAttempt{origin=" + origin + ", hedging=" + hedging + "}";
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides when to hedge a slow call by starting a second copy of it. Only hedge idempotent calls.
+ *
+ * <p>The hedge delay is either fixed or a percentile of recently observed latencies, so only the
+ * slowest calls are duplicated: hedging at the 95th percentile adds roughly 5% more calls while
+ * cutting off the tail beyond it. Latencies are kept in a small ring of samples, and the percentile
+ * is recomputed every {@value #RECOMPUTE_INTERVAL} samples rather than on every call.</p>
+ *
+ * <pre>{@code
+ * Hedging hedging = Hedging.builder().percentile(0.95, Duration.ofMillis(100)).build();
+ * Attempt fast = Attempt.printing().hedged(hedging);
+ * }</pre>
+ *
+ * @see Attempt#hedged(Hedging)
+ */
+public final class Hedging
+{
+    static final int SAMPLES = 128;
+    static final int RECOMPUTE_INTERVAL = 16;
+    
+    /**
+     * Creates a new builder which hedges after a fixed 100ms, running copies on the
+     * {@link VirtualThreads#executor() default executor}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    private final double percentile;
+    private final Executor executor;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long delayNanos;
+    
+    private Hedging(Builder builder)
+    {
+        this.percentile = builder.percentile;
+        this.executor = builder.executor;
+        this.delayNanos = builder.delay.toNanos();
+    }
+    
+    /**
+     * Gets the current hedge delay.
+     *
+     * @return how long to wait for a call before starting a second copy
+     */
+    public Duration delay() { return Duration.ofNanos(delayNanos); }
+    
+    long delayNanos() { return delayNanos; }
+    
+    Executor executor() { return executor; }
+    
+    /**
+     * Records the latency of a successful call, updating the adaptive delay if enabled.
+     *
+     * @param nanos     latency of the call, measured from when its first copy started
+     */
+    void record(long nanos)
+    {
+        if (percentile <= 0) { return; }
+        
+        long count = recorded.getAndIncrement();
+        samples.set((int) (count % SAMPLES), nanos);
+        
+        if ((count + 1) % RECOMPUTE_INTERVAL == 0)
+        {
+            int filled = (int) Math.min(count + 1, SAMPLES);
+            long[] sorted = new long[filled];
+            for (int i = 0; i < filled; i++) { sorted[i] = samples.get(i); }
+            Arrays.sort(sorted);
+            
+            delayNanos = sorted[Math.max(0, (int) Math.ceil(percentile * filled) - 1)];
+        }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "Hedging{delay=" + delay() + ", percentile=" + ((percentile > 0) ? percentile : "fixed") + "}";
+    }
+    
+    /**
+     * Builds hedging settings.
+     */
+    public static final class Builder
+    {
+        private Duration delay = Duration.ofMillis(100);
+        private double percentile = 0;
+        private Executor executor = VirtualThreads.executor();
+        
+        private Builder() {}
+        
+        /**
+         * Hedges calls that take longer than a fixed delay.
+         *
+         * @param delay     how long to wait before starting a second copy
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if delay is negative
+         */
+        public Builder delay(Duration delay)
+        {
+            Objects.requireNonNull(delay, "delay");
+            if (delay.isNegative()) { throw new IllegalArgumentException("delay must not be negative: " + delay); }
+            this.delay = delay;
+            this.percentile = 0;
+            return this;
+        }
+        
+        /**
+         * Hedges calls that take longer than the given percentile (between 0 and 1, exclusive) of
+         * recent latencies, using the initial delay until enough calls have been observed.
+         *
+         * @param percentile    latency percentile, such as {@code 0.95}
+         * @param initialDelay  delay to use until enough latencies have been recorded
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if percentile is not between 0 and 1 (exclusive)
+         *                                  or initialDelay is negative
+         */
+        public Builder percentile(double percentile, Duration initialDelay)
+        {
+            if (!(percentile > 0 && percentile < 1)) { throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile); }
+            delay(initialDelay);
+            this.percentile = percentile;
+            return this;
+        }
+        
+        /**
+         * Sets the executor that runs each copy.
+         *
+         * @param executor  executor
+         *
+         * @return this builder
+         */
+        public Builder executor(Executor executor)
+        {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+        
+        /**
+         * Creates new hedging settings.
+         *
+         * @return new hedging settings
+         */
+        public Hedging build() { return new Hedging(this); }
+    }
+}
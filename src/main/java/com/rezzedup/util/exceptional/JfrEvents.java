@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedRunnable;
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Optional;
+
+/**
+ * JDK Flight Recorder events, all disabled by default. Only loaded through {@link ExceptionEvents}
+ * once the {@code jdk.jfr} module is known to be available.
+ *
+ * <p>Checking whether an event is enabled allocates an event that never escapes, which the JIT
+ * eliminates, so disabled events only cost the check itself.</p>
+ */
+final class JfrEvents
+{
+    private JfrEvents() { throw new UnsupportedOperationException(); }
+    
+    static final String CATEGORY = "Exceptional";
+    
+    @Name("com.rezzedup.util.exceptional.ExceptionHandled")
+    @Label("Exception Handled")
+    @Description("An exception handed to a catcher")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class HandledEvent extends Event
+    {
+        @Label("Exception Class")
+        @NullOr Class<?> exceptionClass;
+        
+        @Label("Call Site")
+        @NullOr String site;
+        
+        @Label("Action")
+        @Description("What the catcher did: ignored, printed, rethrown, or handled")
+        @NullOr String action;
+    }
+    
+    @Name("com.rezzedup.util.exceptional.AttemptExecuted")
+    @Label("Attempt Executed")
+    @Description("A potentially exceptional action performed by an attempt")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    static final class AttemptEvent extends Event
+    {
+        @Label("Operation")
+        @NullOr String operation;
+        
+        @Label("Call Site")
+        @NullOr String site;
+        
+        @Label("Exception Class")
+        @Description("The thrown exception, or null if the action succeeded")
+        @NullOr Class<?> exceptionClass;
+    }
+    
+    @Name("com.rezzedup.util.exceptional.ExceptionRethrown")
+    @Label("Exception Rethrown")
+    @Description("An exception wrapped in a Rethrow")
+    @Category(CATEGORY)
+    @Enabled(false)
+    static final class RethrownEvent extends Event
+    {
+        @Label("Exception Class")
+        @NullOr Class<?> exceptionClass;
+        
+        @Label("Stackless")
+        boolean stackless;
+    }
+    
+    static boolean isHandledEnabled() { return new HandledEvent().isEnabled(); }
+    
+    static boolean isAttemptEnabled() { return new AttemptEvent().isEnabled(); }
+    
+    static <E extends Throwable> void handle(Catcher<E> catcher, E exception)
+    {
+        HandledEvent event = new HandledEvent();
+        event.exceptionClass = exception.getClass();
+        event.begin();
+        
+        try
+        {
+            catcher.handle(exception);
+            event.action = ExceptionEvents.action(catcher);
+        }
+        catch (Throwable e)
+        {
+            event.action = "rethrown";
+            throw e;
+        }
+        finally
+        {
+            event.end();
+            if (event.shouldCommit())
+            {
+                event.site = ExceptionEvents.site();
+                event.commit();
+            }
+        }
+    }
+    
+    static void run(Attempt attempt, CheckedRunnable<? extends Exception> runnable)
+    {
+        AttemptEvent event = new AttemptEvent();
+        event.operation = "run";
+        event.begin();
+        
+        try { runnable.runOrThrow(); }
+        catch (Exception e)
+        {
+            event.exceptionClass = e.getClass();
+            attempt.catcher().handleOrRethrowError(e);
+        }
+        finally { commit(event); }
+    }
+    
+    @SuppressWarnings("ConstantConditions")
+    static <T> Optional<T> get(Attempt attempt, CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+    {
+        AttemptEvent event = new AttemptEvent();
+        event.operation = "get";
+        event.begin();
+        
+        try { return Optional.ofNullable(supplier.getOrThrow()); }
+        catch (Exception e)
+        {
+            event.exceptionClass = e.getClass();
+            attempt.catcher().handleOrRethrowError(e);
+        }
+        finally { commit(event); }
+        
+        return Optional.empty();
+    }
+    
+    private static void commit(AttemptEvent event)
+    {
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.site = ExceptionEvents.site();
+            event.commit();
+        }
+    }
+    
+    static void rethrown(Throwable cause, boolean stackless)
+    {
+        RethrownEvent event = new RethrownEvent();
+        if (event.isEnabled())
+        {
+            event.exceptionClass = cause.getClass();
+            event.stackless = stackless;
+            event.commit();
+        }
+    }
+}
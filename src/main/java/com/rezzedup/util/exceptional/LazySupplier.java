@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Checked supplier that computes its value at most once, on first use.
+ *
+ * <p>Once computed, getting the value is a single volatile read. Only the first computation takes
+ * a lock, so concurrent first callers wait for one computation instead of each running it. (The
+ * lock is a {@link ReentrantLock} rather than a monitor, so waiting doesn't pin virtual threads.)</p>
+ *
+ * <p>If the computation throws an exception, it's rethrown to every caller already waiting on it.
+ * Then, depending on {@link OnFailure}, either the next call tries again or the failure is cached
+ * and rethrown from then on. Errors are never cached or shared: they propagate from the call that
+ * computed them, and the next caller tries again.</p>
+ *
+ * <pre>{@code
+ * LazySupplier<Config, IOException> config = LazySupplier.of(() -> Config.load(Path.of("config.yml")));
+ * }</pre>
+ *
+ * @param <T>   return type
+ * @param <E>   exception type
+ */
+public final class LazySupplier<T, E extends Throwable> implements CheckedSupplier<T, E>
+{
+    /**
+     * What to do when computing the value fails.
+     */
+    public enum OnFailure
+    {
+        /** Forget the failure and compute again on the next call. */
+        RETRY,
+        /** Keep the failure and rethrow it on every call. */
+        CACHE
+    }
+    
+    /**
+     * Creates a lazy supplier which retries failed computations on the next call.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       return type
+     * @param <E>       exception type
+     *
+     * @return a new lazy supplier
+     */
+    public static <T, E extends Throwable> LazySupplier<T, E> of(CheckedSupplier<T, E> supplier)
+    {
+        return of(supplier, OnFailure.RETRY);
+    }
+    
+    /**
+     * Creates a lazy supplier.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param onFailure what to do when computing the value fails
+     * @param <T>       return type
+     * @param <E>       exception type
+     *
+     * @return a new lazy supplier
+     */
+    public static <T, E extends Throwable> LazySupplier<T, E> of(CheckedSupplier<T, E> supplier, OnFailure onFailure)
+    {
+        return new LazySupplier<>(supplier, onFailure);
+    }
+    
+    private final CheckedSupplier<T, E> origin;
+    private final OnFailure onFailure;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile @NullOr ThrowsOr<T> result = null;
+    
+    // Failed computations so far, so waiters can tell whether one finished while they waited.
+    private volatile int failures = 0;
+    private @NullOr ThrowsOr<T> lastFailure = null; // guarded by lock
+    
+    private LazySupplier(CheckedSupplier<T, E> origin, OnFailure onFailure)
+    {
+        this.origin = Objects.requireNonNull(origin, "origin");
+        this.onFailure = Objects.requireNonNull(onFailure, "onFailure");
+    }
+    
+    @Override
+    public T getOrThrow() throws E
+    {
+        @NullOr ThrowsOr<T> computed = result;
+        return unwrap((computed != null) ? computed : compute());
+    }
+    
+    private ThrowsOr<T> compute() throws E
+    {
+        int seenFailures = failures;
+        lock.lock();
+        
+        try
+        {
+            @NullOr ThrowsOr<T> computed = result;
+            if (computed != null) { return computed; }
+            
+            // A computation failed while this caller was waiting, so share its failure.
+            @NullOr ThrowsOr<T> failed = lastFailure;
+            if (failed != null && failures != seenFailures) { return failed; }
+            
+            try { computed = ThrowsOr.maybe(origin.getOrThrow()); }
+            catch (Exception e) { computed = ThrowsOr.raise(e); }
+            
+            if (computed.isNotExceptional() || onFailure == OnFailure.CACHE) { result = computed; }
+            
+            if (computed.isExceptional())
+            {
+                lastFailure = computed;
+                failures = seenFailures + 1;
+            }
+            
+            return computed;
+        }
+        finally { lock.unlock(); }
+    }
+    
+    @SuppressWarnings("ConstantConditions")
+    private T unwrap(ThrowsOr<T> computed)
+    {
+        if (computed.isExceptional()) { throw Sneaky.rethrow(computed.exceptionOrThrow()); }
+        return computed.value().orElse(null);
+    }
+    
+    @Override
+    public Catcher<Throwable> catcher() { return origin.catcher(); }
+    
+    /**
+     * Checks whether the value (or a cached failure) has been computed.
+     *
+     * @return {@code true} if computed
+     */
+    public boolean isComputed() { return result != null; }
+    
+    @Override
+    public String toString()
+    {
+        return "LazySupplier{origin=" + origin + ", onFailure=" + onFailure + ", computed=" + isComputed() + "}";
+    }
+}
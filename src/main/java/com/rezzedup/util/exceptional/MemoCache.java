@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, expiring cache of loaded values with single-flight loading: concurrent callers for the
+ * same missing key all wait for one load instead of each loading it.
+ *
+ * <p>Each entry holds a future for its value, so a load in progress is visible to other callers as
+ * soon as it starts. Failed loads are delivered to every waiting caller, then either removed so the
+ * next call tries again, or kept for a short time (negative caching) so the same exception is
+ * rethrown without calling the loader. Errors and interrupts are never kept. A kept exception
+ * instance is shared by every caller, which is documented on
+ * {@link Memoizer.Builder#cacheFailures(java.time.Duration)}.</p>
+ *
+ * @param <K>   key type
+ * @param <V>   value type
+ */
+final class MemoCache<K, V>
+{
+    private final ConcurrentLruMap<K, Entry<V>> entries;
+    private final long expireAfterNanos;
+    private final long expireFailuresAfterNanos;
+    private final LongSupplier clock;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    MemoCache(Memoizer settings)
+    {
+        this.entries = new ConcurrentLruMap<>(settings.maximumSize);
+        this.expireAfterNanos = settings.expireAfterNanos;
+        this.expireFailuresAfterNanos = settings.expireFailuresAfterNanos;
+        this.clock = settings.clock;
+    }
+    
+    private boolean isUsable(@NullOr Entry<V> entry, long now)
+    {
+        if (entry == null) { return false; }
+        if (!entry.future.isDone()) { return true; }
+        
+        long expireAfter = entry.future.isCompletedExceptionally() ? expireFailuresAfterNanos : expireAfterNanos;
+        return now - entry.loadedAt < expireAfter;
+    }
+    
+    /**
+     * Gets the cached value for the key, loading it if missing or expired. Exceptions thrown by the
+     * loader are rethrown as-is to every caller waiting on that load.
+     *
+     * @param key       key
+     * @param loader    loads the value for a key
+     *
+     * @return the cached or loaded value
+     */
+    @NullOr V get(K key, CheckedFunction<? super K, ? extends @NullOr V, ?> loader)
+    {
+        long now = clock.getAsLong();
+        @NullOr Entry<V> cached = entries.get(key);
+        if (isUsable(cached, now)) { return hit(cached); }
+        
+        Entry<V> fresh = new Entry<>();
+        Entry<V> entry = entries.compute(key, (k, existing) -> isUsable(existing, now) ? existing : fresh);
+        if (entry != fresh) { return hit(entry); }
+        
+        misses.increment();
+        
+        try
+        {
+            @NullOr V value = loader.applyOrThrow(key);
+            fresh.loadedAt = clock.getAsLong();
+            fresh.future.complete(value);
+            return value;
+        }
+        catch (Throwable e)
+        {
+            if (expireFailuresAfterNanos > 0 && isCacheable(e)) { fresh.loadedAt = clock.getAsLong(); }
+            else { entries.remove(key, fresh); }
+            
+            fresh.future.completeExceptionally(e);
+            throw Sneaky.rethrow(e);
+        }
+    }
+    
+    // Errors (OOM, stack overflow) and interrupts say nothing about the key, so they're never cached.
+    private static boolean isCacheable(Throwable failure)
+    {
+        return failure instanceof Exception && !(failure instanceof InterruptedException);
+    }
+    
+    private @NullOr V hit(Entry<V> entry)
+    {
+        hits.increment();
+        
+        try { return entry.future.join(); }
+        catch (CompletionException e) { throw Sneaky.rethrow((e.getCause() != null) ? e.getCause() : e); }
+    }
+    
+    void invalidate(K key) { entries.remove(key); }
+    
+    void invalidateAll() { entries.clear(); }
+    
+    int size() { return entries.size(); }
+    
+    long hits() { return hits.sum(); }
+    
+    long misses() { return misses.sum(); }
+    
+    private static final class Entry<V>
+    {
+        final CompletableFuture<@NullOr V> future = new CompletableFuture<>();
+        volatile long loadedAt;
+    }
+}
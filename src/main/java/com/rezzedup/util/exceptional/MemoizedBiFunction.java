@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedBiFunction;
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+
+/**
+ * Checked bi-function whose results are cached by both arguments.
+ *
+ * @param <T>   first argument type
+ * @param <U>   second argument type
+ * @param <R>   return type
+ * @param <E>   exception type
+ *
+ * @see Memoizer#biFunction(CheckedBiFunction)
+ */
+public final class MemoizedBiFunction<T, U, R, E extends Throwable> implements CheckedBiFunction<T, U, R, E>
+{
+    private final CheckedBiFunction<T, U, R, E> origin;
+    private final MemoCache<Key<T, U>, R> cache;
+    private final CheckedFunction<Key<T, U>, R, E> loader;
+    
+    MemoizedBiFunction(CheckedBiFunction<T, U, R, E> origin, MemoCache<Key<T, U>, R> cache)
+    {
+        this.origin = Objects.requireNonNull(origin, "origin");
+        this.cache = cache;
+        this.loader = key -> origin.applyOrThrow(key.t, key.u);
+    }
+    
+    @Override
+    public R applyOrThrow(T t, U u) throws E { return cache.get(new Key<>(t, u), loader); }
+    
+    @Override
+    public Catcher<Throwable> catcher() { return origin.catcher(); }
+    
+    /**
+     * Discards the cached result for the arguments, if any.
+     *
+     * @param t     the first argument
+     * @param u     the second argument
+     */
+    public void invalidate(T t, U u) { cache.invalidate(new Key<>(t, u)); }
+    
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() { cache.invalidateAll(); }
+    
+    /**
+     * Gets the number of cached results, including any still loading.
+     *
+     * @return the number of cached results
+     */
+    public int size() { return cache.size(); }
+    
+    /**
+     * Gets the number of calls answered from the cache, including cached failures and calls that
+     * waited for another caller's computation.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() { return cache.hits(); }
+    
+    /**
+     * Gets the number of calls that computed their result.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() { return cache.misses(); }
+    
+    @Override
+    public String toString()
+    {
+        return "MemoizedBiFunction{origin=" + origin + ", size=" + size() + "}";
+    }
+    
+    static final class Key<T, U>
+    {
+        final @NullOr T t;
+        final @NullOr U u;
+        
+        Key(@NullOr T t, @NullOr U u)
+        {
+            this.t = t;
+            this.u = u;
+        }
+        
+        @Override
+        public boolean equals(@NullOr Object o)
+        {
+            if (this == o) { return true; }
+            if (!(o instanceof Key)) { return false; }
+            Key<?, ?> key = (Key<?, ?>) o;
+            return Objects.equals(t, key.t) && Objects.equals(u, key.u);
+        }
+        
+        @Override
+        public int hashCode() { return 31 * Objects.hashCode(t) + Objects.hashCode(u); }
+    }
+}
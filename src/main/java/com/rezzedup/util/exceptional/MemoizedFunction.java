@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+
+import java.util.Objects;
+
+/**
+ * Checked function whose results are cached by argument.
+ *
+ * @param <T>   argument type
+ * @param <R>   return type
+ * @param <E>   exception type
+ *
+ * @see Memoizer#function(CheckedFunction)
+ */
+public final class MemoizedFunction<T, R, E extends Throwable> implements CheckedFunction<T, R, E>
+{
+    private final CheckedFunction<T, R, E> origin;
+    private final MemoCache<T, R> cache;
+    
+    MemoizedFunction(CheckedFunction<T, R, E> origin, MemoCache<T, R> cache)
+    {
+        this.origin = Objects.requireNonNull(origin, "origin");
+        this.cache = cache;
+    }
+    
+    @Override
+    public R applyOrThrow(T t) throws E { return cache.get(t, origin); }
+    
+    @Override
+    public Catcher<Throwable> catcher() { return origin.catcher(); }
+    
+    /**
+     * Discards the cached result for the argument, if any.
+     *
+     * @param t     the function argument
+     */
+    public void invalidate(T t) { cache.invalidate(t); }
+    
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() { cache.invalidateAll(); }
+    
+    /**
+     * Gets the number of cached results, including any still loading.
+     *
+     * @return the number of cached results
+     */
+    public int size() { return cache.size(); }
+    
+    /**
+     * Gets the number of calls answered from the cache, including cached failures and calls that
+     * waited for another caller's computation.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() { return cache.hits(); }
+    
+    /**
+     * Gets the number of calls that computed their result.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() { return cache.misses(); }
+    
+    @Override
+    public String toString()
+    {
+        return "MemoizedFunction{origin=" + origin + ", size=" + size() + "}";
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedBiFunction;
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes checked functions with bounded, concurrent caches.
+ *
+ * <p>Each memoized function gets its own cache, which evicts its least recently used entries once
+ * full and, optionally, expires entries some time after they're loaded. Loading is single-flight:
+ * concurrent callers for the same missing key wait for one computation instead of stampeding.
+ * Exceptions are delivered to every caller waiting on the failed computation, and by default aren't
+ * cached. With {@link Builder#cacheFailures(Duration)}, the exception is kept for a short time and
+ * rethrown as-is, so repeated lookups of a missing key don't pay for the failure again.</p>
+ *
+ * <pre>{@code
+ * Memoizer memoizer = Memoizer.builder().maximumSize(1000).expireAfterWrite(Duration.ofMinutes(5)).build();
+ * MemoizedFunction<String, InetAddress, UnknownHostException> resolve = memoizer.function(InetAddress::getByName);
+ * }</pre>
+ */
+public final class Memoizer
+{
+    /**
+     * Creates a new builder which caches up to 1000 entries per function, without expiring them.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    final int maximumSize;
+    final long expireAfterNanos;
+    final long expireFailuresAfterNanos;
+    final LongSupplier clock;
+    
+    private Memoizer(Builder builder)
+    {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterNanos = (builder.expireAfterWrite == null) ? Long.MAX_VALUE : builder.expireAfterWrite.toNanos();
+        this.expireFailuresAfterNanos = (builder.cacheFailures == null) ? 0 : builder.cacheFailures.toNanos();
+        this.clock = builder.clock;
+    }
+    
+    /**
+     * Memoizes the function. Its catcher is kept.
+     *
+     * @param function  potentially exceptional function
+     * @param <T>       argument type
+     * @param <R>       return type
+     * @param <E>       exception type
+     *
+     * @return a new memoized function
+     */
+    public <T, R, E extends Throwable> MemoizedFunction<T, R, E> function(CheckedFunction<T, R, E> function)
+    {
+        return new MemoizedFunction<>(function, new MemoCache<>(this));
+    }
+    
+    /**
+     * Memoizes the bi-function, keyed by both arguments. Its catcher is kept.
+     *
+     * @param function  potentially exceptional bi-function
+     * @param <T>       first argument type
+     * @param <U>       second argument type
+     * @param <R>       return type
+     * @param <E>       exception type
+     *
+     * @return a new memoized bi-function
+     */
+    public <T, U, R, E extends Throwable> MemoizedBiFunction<T, U, R, E> biFunction(CheckedBiFunction<T, U, R, E> function)
+    {
+        return new MemoizedBiFunction<>(function, new MemoCache<>(this));
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "Memoizer{maximumSize=" + maximumSize
+            + ", expireAfterWrite=" + ((expireAfterNanos == Long.MAX_VALUE) ? "never" : Duration.ofNanos(expireAfterNanos))
+            + ", cacheFailures=" + ((expireFailuresAfterNanos == 0) ? "never" : Duration.ofNanos(expireFailuresAfterNanos))
+            + "}";
+    }
+    
+    /**
+     * Builds memoizers.
+     */
+    public static final class Builder
+    {
+        private int maximumSize = 1000;
+        private @NullOr Duration expireAfterWrite = null;
+        private @NullOr Duration cacheFailures = null;
+        private LongSupplier clock = System::nanoTime;
+        
+        private Builder() {}
+        
+        /**
+         * Sets the maximum number of entries cached per function.
+         *
+         * @param maximumSize   maximum number of entries
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if maximumSize is not positive
+         */
+        public Builder maximumSize(int maximumSize)
+        {
+            if (maximumSize <= 0) { throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize); }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+        
+        /**
+         * Expires entries once this long has passed since they were loaded.
+         *
+         * @param duration  how long entries stay fresh
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if duration is not positive
+         */
+        public Builder expireAfterWrite(Duration duration)
+        {
+            Objects.requireNonNull(duration, "duration");
+            if (duration.isNegative() || duration.isZero()) { throw new IllegalArgumentException("duration must be positive: " + duration); }
+            this.expireAfterWrite = duration;
+            return this;
+        }
+        
+        /**
+         * Caches failures for the given time after they're thrown, rethrowing the same exception
+         * instead of calling the function again. Failures aren't cached by default, and errors
+         * (such as {@link OutOfMemoryError}) and {@link InterruptedException}s never are.
+         *
+         * <p>The cached exception instance is shared: every caller within the time gets the same
+         * object, so its stack trace is from the original failure, and anything added to it (such
+         * as {@linkplain Throwable#addSuppressed(Throwable) suppressed exceptions} from
+         * try-with-resources) is seen by every other caller. It's rethrown as-is rather than
+         * wrapped so that callers can still catch the function's declared exception type; wrap it
+         * yourself (e.g. with {@link Rethrow#stackless(Throwable)}) before modifying it.</p>
+         *
+         * @param duration  how long failures are cached
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if duration is not positive
+         */
+        public Builder cacheFailures(Duration duration)
+        {
+            Objects.requireNonNull(duration, "duration");
+            if (duration.isNegative() || duration.isZero()) { throw new IllegalArgumentException("duration must be positive: " + duration); }
+            this.cacheFailures = duration;
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new memoizer.
+         *
+         * @return a new memoizer
+         */
+        public Memoizer build() { return new Memoizer(this); }
+    }
+}
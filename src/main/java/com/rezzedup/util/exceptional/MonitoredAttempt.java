@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attempt that counts its calls and failures through the attempt it wraps, so the wrapped
+ * attempt's decorations (retries, timeouts, etc.) still apply. Exceptions handed to its catcher
+ * are recorded by type before being handed to the original attempt's catcher.
+ */
+final class MonitoredAttempt extends DecoratedAttempt
+{
+    static final class Counters
+    {
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+    }
+    
+    private final String name;
+    private final Counters counters;
+    private final Catcher<Exception> catcher;
+    
+    MonitoredAttempt(String name, Attempt origin, Counters counters, ExceptionStatistics statistics)
+    {
+        super(origin);
+        this.name = name;
+        this.counters = counters;
+        
+        Catcher<Exception> originCatcher = origin.catcher();
+        this.catcher = exception -> {
+            statistics.record(exception);
+            originCatcher.handle(exception);
+        };
+    }
+    
+    @Override
+    public Catcher<Exception> catcher() { return catcher; }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        counters.calls.increment();
+        
+        try { return proceed(supplier); }
+        catch (Throwable t)
+        {
+            counters.failures.increment();
+            throw t;
+        }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "MonitoredAttempt{name=" + name + ", origin=" + origin + "}";
+    }
+}
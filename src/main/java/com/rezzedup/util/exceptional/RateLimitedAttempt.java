@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+
+/**
+ * Attempt that only makes calls admitted by a rate limiter.
+ */
+final class RateLimitedAttempt extends DecoratedAttempt
+{
+    private final RateLimiter limiter;
+    
+    RateLimitedAttempt(Attempt origin, RateLimiter limiter)
+    {
+        super(origin);
+        this.limiter = Objects.requireNonNull(limiter, "limiter");
+    }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        if (!limiter.tryAcquire()) { throw limiter.exceeded(); }
+        return proceed(supplier);
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "RateLimitedAttempt{origin=" + origin + ", limiter=" + limiter + "}";
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits calls to a dependency at a steady rate, allowing short bursts.
+ *
+ * <p>Permits come from a lock-free token bucket whose entire state is one {@code long}, updated
+ * with a single compare-and-set, so admitting a call adds no contention. Calls beyond the rate are
+ * rejected immediately (the default) or reserve a future permit and wait for it, as long as the wait
+ * is within the maximum. Rejected calls are reported with one shared, stackless
+ * {@link ExceededException}.</p>
+ *
+ * <pre>{@code
+ * RateLimiter limiter =
+ *     RateLimiter.builder()
+ *         .rate(100, Duration.ofSeconds(1))
+ *         .burst(20)
+ *         .maxWait(Duration.ofMillis(50))
+ *         .build();
+ *
+ * Attempt limited = Attempt.printing().rateLimited(limiter);
+ * }</pre>
+ *
+ * @see Attempt#rateLimited(RateLimiter)
+ */
+public final class RateLimiter
+{
+    /**
+     * Creates a new builder. A rate must be set before building.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    private final TokenBucket bucket;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+    private final LongAdder rejected = new LongAdder();
+    private final ExceededException exceeded = new ExceededException();
+    
+    private RateLimiter(Builder builder, Duration period)
+    {
+        int burst = (builder.burst > 0) ? builder.burst : builder.permits;
+        this.bucket = new TokenBucket(builder.permits, period, burst, builder.clock);
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.clock = builder.clock;
+    }
+    
+    /**
+     * Gets the total number of rejected calls.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejected() { return rejected.sum(); }
+    
+    /**
+     * Takes a permit, waiting for a reserved one if configured. If the thread is interrupted while
+     * waiting, the call is rejected (forfeiting its reserved permit) and its interrupt status is kept.
+     *
+     * @return {@code true} if the call may run
+     */
+    boolean tryAcquire()
+    {
+        long wait = (maxWaitNanos > 0) ? bucket.reserve(maxWaitNanos) : (bucket.tryAcquire() ? 0 : -1);
+        
+        if (wait < 0)
+        {
+            rejected.increment();
+            return false;
+        }
+        
+        // Measured on the bucket's clock, which is what the reserved permit's time is relative to.
+        for (long until = clock.getAsLong() + wait; wait > 0; wait = until - clock.getAsLong())
+        {
+            LockSupport.parkNanos(this, wait);
+            
+            if (Thread.currentThread().isInterrupted())
+            {
+                rejected.increment();
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Gets the shared exception reported for rejected calls.
+     *
+     * @return the shared exception for rejected calls
+     */
+    ExceededException exceeded() { return exceeded; }
+    
+    @Override
+    public String toString()
+    {
+        return "RateLimiter{rejected=" + rejected() + "}";
+    }
+    
+    /**
+     * Reported when a call is rejected by a rate limiter. A single stackless instance is shared for
+     * each rate limiter.
+     */
+    public static final class ExceededException extends RuntimeException
+    {
+        private ExceededException()
+        {
+            super("Rate limit exceeded", null, false, false);
+        }
+    }
+    
+    /**
+     * Builds rate limiters.
+     */
+    public static final class Builder
+    {
+        private int permits = 0;
+        private @NullOr Duration period = null;
+        private int burst = 0;
+        private Duration maxWait = Duration.ZERO;
+        private LongSupplier clock = System::nanoTime;
+        
+        private Builder() {}
+        
+        /**
+         * Sets the steady rate of admitted calls.
+         *
+         * @param permits   number of calls admitted per period
+         * @param period    length of the period
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if permits or period is not positive
+         */
+        public Builder rate(int permits, Duration period)
+        {
+            Objects.requireNonNull(period, "period");
+            if (permits <= 0) { throw new IllegalArgumentException("permits must be positive: " + permits); }
+            if (period.isNegative() || period.isZero()) { throw new IllegalArgumentException("period must be positive: " + period); }
+            
+            this.permits = permits;
+            this.period = period;
+            return this;
+        }
+        
+        /**
+         * Sets how many calls may be admitted at once after a quiet spell. Defaults to the number of
+         * permits per period.
+         *
+         * @param burst     maximum burst of calls
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if burst is not positive
+         */
+        public Builder burst(int burst)
+        {
+            if (burst <= 0) { throw new IllegalArgumentException("burst must be positive: " + burst); }
+            this.burst = burst;
+            return this;
+        }
+        
+        /**
+         * Sets how long excess calls may wait for a permit before being rejected. Zero (the default)
+         * rejects them immediately.
+         *
+         * @param maxWait   maximum time to wait for a permit
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if maxWait is negative
+         */
+        public Builder maxWait(Duration maxWait)
+        {
+            Objects.requireNonNull(maxWait, "maxWait");
+            if (maxWait.isNegative()) { throw new IllegalArgumentException("maxWait must not be negative: " + maxWait); }
+            this.maxWait = maxWait;
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new rate limiter.
+         *
+         * @return a new rate limiter
+         * @throws IllegalStateException if no rate was set
+         */
+        public RateLimiter build()
+        {
+            @NullOr Duration period = this.period;
+            if (period == null) { throw new IllegalStateException("No rate was set"); }
+            return new RateLimiter(this, period);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Checked supplier that caches its value for a time-to-live and refreshes it in the background
+ * shortly before it expires, so callers never wait for a refresh.
+ *
+ * <p>Only the first call (or concurrent first calls) waits for the value to load; if that fails,
+ * the exception is thrown and the next call tries again. Afterwards, refreshes run on an executor,
+ * scheduled {@link Builder#refreshAhead(Duration) ahead} of expiry. If a refresh throws, the
+ * exception is handed to {@link #catcher()} (the wrapped supplier's catcher), the current value
+ * keeps being served even once stale, and the refresh is retried after a delay.</p>
+ *
+ * <p>Once {@link #close() closed}, background refreshes stop and an expired value is reloaded on
+ * the calling thread instead. Until then, the next scheduled refresh keeps the supplier (and its
+ * value) reachable from the scheduler, so suppliers that are no longer needed must be closed.</p>
+ *
+ * <pre>{@code
+ * RefreshingSupplier<Credentials, IOException> credentials =
+ *     RefreshingSupplier.builder(CheckedSupplier.of(Catcher::print, Credentials::fetch))
+ *         .ttl(Duration.ofMinutes(15))
+ *         .refreshAhead(Duration.ofMinutes(1))
+ *         .build();
+ * }</pre>
+ *
+ * @param <T>   return type
+ * @param <E>   exception type
+ */
+public final class RefreshingSupplier<T, E extends Throwable> implements CheckedSupplier<T, E>, AutoCloseable
+{
+    /**
+     * Creates a new builder for refreshing the supplier's value. A time-to-live must be set
+     * before building.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       return type
+     * @param <E>       exception type
+     *
+     * @return a new builder
+     */
+    public static <T, E extends Throwable> Builder<T, E> builder(CheckedSupplier<T, E> supplier)
+    {
+        return new Builder<>(supplier);
+    }
+    
+    private static final class SharedScheduler
+    {
+        static final ScheduledExecutorService INSTANCE;
+        
+        static
+        {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "exceptional-refresh-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            INSTANCE = scheduler;
+        }
+    }
+    
+    private static final long MIN_DEFAULT_RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final CheckedSupplier<T, E> origin;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long retryDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final LongSupplier clock;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile @NullOr Loaded<T> loaded = null;
+    private volatile boolean refreshing = true;
+    private volatile @NullOr ScheduledFuture<?> scheduled = null;
+    
+    private RefreshingSupplier(Builder<T, E> builder, Duration ttl)
+    {
+        this.origin = builder.origin;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = (builder.refreshAhead != null) ? builder.refreshAhead.toNanos() : ttlNanos / 10;
+        this.retryDelayNanos = (builder.retryDelay != null) ? builder.retryDelay.toNanos() : Math.max(MIN_DEFAULT_RETRY_DELAY_NANOS, ttlNanos / 10);
+        this.scheduler = builder.scheduler;
+        this.executor = builder.executor;
+        this.clock = builder.clock;
+    }
+    
+    private boolean isServable(@NullOr Loaded<T> current)
+    {
+        return current != null && (refreshing || clock.getAsLong() - current.loadedAt < ttlNanos);
+    }
+    
+    @SuppressWarnings("ConstantConditions")
+    @Override
+    public T getOrThrow() throws E
+    {
+        @NullOr Loaded<T> current = loaded;
+        return isServable(current) ? current.value : load();
+    }
+    
+    @SuppressWarnings("ConstantConditions")
+    private T load() throws E
+    {
+        lock.lock();
+        
+        try
+        {
+            @NullOr Loaded<T> current = loaded;
+            if (isServable(current)) { return current.value; }
+            
+            T value = origin.getOrThrow();
+            loaded = new Loaded<>(value, clock.getAsLong());
+            schedule(ttlNanos - refreshAheadNanos);
+            return value;
+        }
+        finally { lock.unlock(); }
+    }
+    
+    private void schedule(long delayNanos)
+    {
+        if (!refreshing) { return; }
+        
+        try { scheduled = scheduler.schedule(this::startRefresh, delayNanos, TimeUnit.NANOSECONDS); }
+        catch (RejectedExecutionException e) { stop(e); }
+    }
+    
+    private void startRefresh()
+    {
+        // Refresh off the scheduler thread so a slow supplier can't delay other refreshes.
+        try { executor.execute(this::refresh); }
+        catch (RejectedExecutionException e) { stop(e); }
+    }
+    
+    private void refresh()
+    {
+        if (!refreshing) { return; }
+        
+        try
+        {
+            T value = origin.getOrThrow();
+            loaded = new Loaded<>(value, clock.getAsLong());
+            schedule(ttlNanos - refreshAheadNanos);
+        }
+        catch (Throwable e)
+        {
+            schedule(retryDelayNanos);
+            report(e);
+        }
+    }
+    
+    private void stop(Throwable cause)
+    {
+        refreshing = false;
+        report(cause);
+    }
+    
+    private void report(Throwable exception)
+    {
+        try { catcher().handle(exception); }
+        catch (Throwable t)
+        {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        }
+    }
+    
+    @Override
+    public Catcher<Throwable> catcher() { return origin.catcher(); }
+    
+    /**
+     * Checks whether values are still refreshed in the background.
+     *
+     * @return {@code true} if not closed and no refresh has been rejected
+     */
+    public boolean isRefreshing() { return refreshing; }
+    
+    /**
+     * Stops refreshing in the background, releasing the scheduler's reference to this supplier.
+     * Afterwards, expired values are reloaded on the calling thread.
+     */
+    @Override
+    public void close()
+    {
+        refreshing = false;
+        @NullOr ScheduledFuture<?> pending = scheduled;
+        if (pending != null) { pending.cancel(false); }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "RefreshingSupplier{origin=" + origin + ", ttl=" + Duration.ofNanos(ttlNanos)
+            + ", refreshAhead=" + Duration.ofNanos(refreshAheadNanos) + ", refreshing=" + refreshing + "}";
+    }
+    
+    private static final class Loaded<T>
+    {
+        final T value;
+        final long loadedAt;
+        
+        Loaded(T value, long loadedAt)
+        {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+    
+    /**
+     * Builds refreshing suppliers.
+     *
+     * @param <T>   return type
+     * @param <E>   exception type
+     */
+    public static final class Builder<T, E extends Throwable>
+    {
+        private final CheckedSupplier<T, E> origin;
+        private @NullOr Duration ttl = null;
+        private @NullOr Duration refreshAhead = null;
+        private @NullOr Duration retryDelay = null;
+        private ScheduledExecutorService scheduler = SharedScheduler.INSTANCE;
+        private Executor executor = VirtualThreads.executor();
+        private LongSupplier clock = System::nanoTime;
+        
+        private Builder(CheckedSupplier<T, E> origin)
+        {
+            this.origin = Objects.requireNonNull(origin, "origin");
+        }
+        
+        /**
+         * Sets how long each value stays fresh after it's loaded.
+         *
+         * @param ttl   time-to-live of each value
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if ttl is not positive
+         */
+        public Builder<T, E> ttl(Duration ttl)
+        {
+            Objects.requireNonNull(ttl, "ttl");
+            if (ttl.isNegative() || ttl.isZero()) { throw new IllegalArgumentException("ttl must be positive: " + ttl); }
+            this.ttl = ttl;
+            return this;
+        }
+        
+        /**
+         * Sets how long before expiry to refresh. Defaults to a tenth of the time-to-live.
+         *
+         * @param refreshAhead  time before expiry to start refreshing
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if refreshAhead is negative
+         */
+        public Builder<T, E> refreshAhead(Duration refreshAhead)
+        {
+            Objects.requireNonNull(refreshAhead, "refreshAhead");
+            if (refreshAhead.isNegative()) { throw new IllegalArgumentException("refreshAhead must not be negative: " + refreshAhead); }
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+        
+        /**
+         * Sets how long to wait before retrying a failed refresh. Defaults to a tenth of the
+         * time-to-live (but at least a millisecond).
+         *
+         * @param retryDelay    delay before retrying a failed refresh
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if retryDelay is not positive
+         */
+        public Builder<T, E> retryDelay(Duration retryDelay)
+        {
+            Objects.requireNonNull(retryDelay, "retryDelay");
+            if (retryDelay.isNegative() || retryDelay.isZero()) { throw new IllegalArgumentException("retryDelay must be positive: " + retryDelay); }
+            this.retryDelay = retryDelay;
+            return this;
+        }
+        
+        /**
+         * Sets the scheduler that times refreshes. Defaults to a single shared daemon thread, which
+         * only hands refreshes off to the {@link #executor(Executor) executor}.
+         *
+         * @param scheduler     refresh scheduler
+         *
+         * @return this builder
+         */
+        public Builder<T, E> scheduler(ScheduledExecutorService scheduler)
+        {
+            this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+            return this;
+        }
+        
+        /**
+         * Sets the executor that runs refreshes. Defaults to {@link VirtualThreads#executor()}.
+         *
+         * @param executor  refresh executor
+         *
+         * @return this builder
+         */
+        public Builder<T, E> executor(Executor executor)
+        {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder<T, E> clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new refreshing supplier. Nothing is loaded until it's first used.
+         *
+         * @return a new refreshing supplier
+         * @throws IllegalStateException if no time-to-live was set, or refreshAhead isn't shorter than it
+         */
+        public RefreshingSupplier<T, E> build()
+        {
+            @NullOr Duration ttl = this.ttl;
+            if (ttl == null) { throw new IllegalStateException("No ttl was set"); }
+            if (refreshAhead != null && refreshAhead.compareTo(ttl) >= 0)
+            {
+                throw new IllegalStateException("refreshAhead (" + refreshAhead + ") must be shorter than ttl (" + ttl + ")");
+            }
+            return new RefreshingSupplier<>(this, ttl);
+        }
+    }
+}
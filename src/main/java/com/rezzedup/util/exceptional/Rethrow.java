@@ -12,9 +12,22 @@ import java.util.Objects;
 /**
  * Represents an existing exception thrown again.
  * It also guarantees that the causal exception cannot be {@code null}.
+ *
+ * <p>Since the causal exception already carries the meaningful stack trace, rethrows may
+ * optionally be <i>stackless</i>, which skips capturing a stack trace (and disables suppression)
+ * entirely. Stackless rethrows are much cheaper to create under heavy failure loads. To make them
+ * the default for {@link #of(Throwable)} and {@link #caught(Throwable)}, set the system property
+ * {@value #STACKLESS_PROPERTY} to {@code true}.</p>
  */
 public class Rethrow extends RuntimeException
 {
+    /**
+     * System property that, when {@code true}, makes stackless rethrows the default.
+     */
+    public static final String STACKLESS_PROPERTY = "com.rezzedup.util.exceptional.rethrow.stackless";
+    
+    private static final boolean STACKLESS_BY_DEFAULT = Boolean.getBoolean(STACKLESS_PROPERTY);
+    
     /**
      * Wraps the provided throwable then rethrows it.
      * If the {@code cause} is itself an instance of {@code Rethrow}, it will simply be rethrown again.
@@ -23,10 +36,57 @@ public class Rethrow extends RuntimeException
      *
      * @return nothing, this method always throws
      * @throws Rethrow the rethrown exception
+     * @see #of(Throwable)
      */
     public static Rethrow caught(Throwable cause)
     {
-        throw (cause instanceof Rethrow) ? (Rethrow) cause : new Rethrow(cause);
+        if (cause instanceof Rethrow) { throw (Rethrow) cause; }
+        ExceptionEvents.rethrown(cause, STACKLESS_BY_DEFAULT);
+        throw of(cause);
+    }
+    
+    /**
+     * Wraps the provided throwable with a {@link #stackless(Throwable) stackless} rethrow then rethrows it.
+     * If the {@code cause} is itself an instance of {@code Rethrow}, it will simply be rethrown again.
+     *
+     * @param cause     the caught exception to rethrow
+     *
+     * @return nothing, this method always throws
+     * @throws Rethrow the rethrown exception
+     */
+    public static Rethrow caughtStackless(Throwable cause)
+    {
+        if (cause instanceof Rethrow) { throw (Rethrow) cause; }
+        ExceptionEvents.rethrown(cause, true);
+        throw stackless(cause);
+    }
+    
+    /**
+     * Creates a new rethrow wrapping the provided throwable, which is stackless only if
+     * {@value #STACKLESS_PROPERTY} is enabled.
+     *
+     * @param cause     an existing exception
+     *
+     * @return a new rethrow
+     * @throws NullPointerException if cause is {@code null}
+     */
+    public static Rethrow of(Throwable cause)
+    {
+        return (STACKLESS_BY_DEFAULT) ? stackless(cause) : new Rethrow(cause);
+    }
+    
+    /**
+     * Creates a new rethrow wrapping the provided throwable without capturing a stack trace
+     * and with suppression disabled.
+     *
+     * @param cause     an existing exception
+     *
+     * @return a new stackless rethrow
+     * @throws NullPointerException if cause is {@code null}
+     */
+    public static Rethrow stackless(Throwable cause)
+    {
+        return new Rethrow(cause, false, false);
     }
     
     /**
@@ -41,6 +101,21 @@ public class Rethrow extends RuntimeException
         super(Objects.requireNonNull(cause, "cause"));
     }
     
+    /**
+     * Constructs with the specified suppression and stack trace behavior.
+     *
+     * @param cause                 an existing exception
+     * @param enableSuppression     whether suppression is enabled
+     * @param writableStackTrace    whether the stack trace should be writable (and captured)
+     *
+     * @throws NullPointerException if cause is {@code null}
+     * @see RuntimeException#RuntimeException(String, Throwable, boolean, boolean)
+     */
+    protected Rethrow(Throwable cause, boolean enableSuppression, boolean writableStackTrace)
+    {
+        super(Objects.requireNonNull(cause, "cause").toString(), cause, enableSuppression, writableStackTrace);
+    }
+    
     /**
      * Gets the non-{@code null} exception represented by this rethrow.
      *
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of when and how often to retry a failed action.
+ *
+ * <p>Delays grow exponentially from the initial delay by the multiplier, up to the maximum delay,
+ * and are then randomly reduced by up to the jitter fraction so that many callers failing at once
+ * don't all retry at once.</p>
+ *
+ * <pre>{@code
+ * RetryPolicy policy =
+ *     RetryPolicy.builder()
+ *         .maxAttempts(5)
+ *         .backoff(Duration.ofMillis(50), Duration.ofSeconds(2), 2.0)
+ *         .retryOn(IOException.class)
+ *         .deadline(Duration.ofSeconds(10))
+ *         .build();
+ * }</pre>
+ *
+ * @see Attempt#retrying(RetryPolicy)
+ */
+public final class RetryPolicy
+{
+    /**
+     * Creates a new builder with the default settings: 3 attempts, starting at 100ms and doubling
+     * up to 10s, with 50% jitter, and no deadline, retrying any exception except calls rejected by
+     * a {@link CircuitBreaker}, {@link Bulkhead}, or {@link RateLimiter}, since retrying those only
+     * adds load to something already shedding it.
+     *
+     * <p>Interrupted calls are never retried, whatever the policy.</p>
+     *
+     * @return a new builder
+     */
+    public static Builder builder() { return new Builder(); }
+    
+    private static boolean isRetryableByDefault(Exception exception)
+    {
+        return !(exception instanceof CircuitBreaker.OpenException
+            || exception instanceof Bulkhead.FullException
+            || exception instanceof RateLimiter.ExceededException);
+    }
+    
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<? super Exception> retryIf;
+    private final long deadlineNanos;
+    
+    private RetryPolicy(Builder builder)
+    {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryIf = builder.retryIf;
+        this.deadlineNanos = (builder.deadline == null) ? Long.MAX_VALUE : builder.deadline.toNanos();
+    }
+    
+    /**
+     * Gets the maximum number of attempts, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    public int maxAttempts() { return maxAttempts; }
+    
+    /**
+     * Computes the delay before the next attempt, or {@code -1} if there shouldn't be one.
+     *
+     * @param exception     why the previous attempt failed
+     * @param attempts      number of attempts made so far
+     * @param elapsedNanos  time since the first attempt started
+     *
+     * @return nanoseconds to wait, or {@code -1} to give up
+     */
+    long nextDelayNanos(Exception exception, int attempts, long elapsedNanos)
+    {
+        if (attempts >= maxAttempts || exception instanceof InterruptedException || !retryIf.test(exception)) { return -1; }
+        
+        double exponential = initialDelayNanos * Math.pow(multiplier, attempts - 1);
+        long delay = (long) Math.min(maxDelayNanos, exponential);
+        if (jitter > 0) { delay -= (long) (delay * jitter * ThreadLocalRandom.current().nextDouble()); }
+        
+        return (elapsedNanos + delay > deadlineNanos) ? -1 : delay;
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "RetryPolicy{maxAttempts=" + maxAttempts
+            + ", initialDelay=" + Duration.ofNanos(initialDelayNanos)
+            + ", maxDelay=" + Duration.ofNanos(maxDelayNanos)
+            + ", multiplier=" + multiplier
+            + ", jitter=" + jitter
+            + ", deadline=" + ((deadlineNanos == Long.MAX_VALUE) ? "none" : Duration.ofNanos(deadlineNanos))
+            + "}";
+    }
+    
+    /**
+     * Builds retry policies.
+     */
+    public static final class Builder
+    {
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double multiplier = 2.0;
+        private double jitter = 0.5;
+        private Predicate<? super Exception> retryIf = RetryPolicy::isRetryableByDefault;
+        private @NullOr Duration deadline = null;
+        
+        private Builder() {}
+        
+        /**
+         * Sets the maximum number of attempts, including the first one.
+         *
+         * @param maxAttempts   maximum number of attempts
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if maxAttempts is less than 1
+         */
+        public Builder maxAttempts(int maxAttempts)
+        {
+            if (maxAttempts < 1) { throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts); }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+        
+        /**
+         * Sets the exponential backoff between attempts.
+         *
+         * @param initialDelay  delay before the first retry
+         * @param maxDelay      maximum delay between attempts
+         * @param multiplier    how much the delay grows after each retry (at least 1)
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if either delay is negative or multiplier is less than 1
+         */
+        public Builder backoff(Duration initialDelay, Duration maxDelay, double multiplier)
+        {
+            Objects.requireNonNull(initialDelay, "initialDelay");
+            Objects.requireNonNull(maxDelay, "maxDelay");
+            if (initialDelay.isNegative() || maxDelay.isNegative()) { throw new IllegalArgumentException("Delays must not be negative"); }
+            if (!(multiplier >= 1)) { throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier); }
+            
+            this.initialDelay = initialDelay;
+            this.maxDelay = maxDelay;
+            this.multiplier = multiplier;
+            return this;
+        }
+        
+        /**
+         * Sets a constant delay between attempts.
+         *
+         * @param delay     delay between attempts
+         *
+         * @return this builder
+         */
+        public Builder fixedDelay(Duration delay)
+        {
+            return backoff(delay, delay, 1.0);
+        }
+        
+        /**
+         * Sets the fraction (0 to 1) by which each delay may be randomly reduced.
+         *
+         * @param jitter    jitter fraction, where 0 disables jitter
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if jitter is not between 0 and 1
+         */
+        public Builder jitter(double jitter)
+        {
+            if (!(jitter >= 0 && jitter <= 1)) { throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter); }
+            this.jitter = jitter;
+            return this;
+        }
+        
+        /**
+         * Only retries exceptions matching the provided predicate, replacing the default (which
+         * skips rejections by circuit breakers, bulkheads, and rate limiters). Interrupted calls are
+         * never retried.
+         *
+         * @param retryIf   tests whether an exception should be retried
+         *
+         * @return this builder
+         */
+        public Builder retryIf(Predicate<? super Exception> retryIf)
+        {
+            this.retryIf = Objects.requireNonNull(retryIf, "retryIf");
+            return this;
+        }
+        
+        /**
+         * Only retries exceptions that are instances of any of the provided types.
+         *
+         * @param types     exception types to retry
+         *
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder retryOn(Class<? extends Exception>... types)
+        {
+            List<Class<? extends Exception>> retryable = List.of(types);
+            return retryIf(exception -> retryable.stream().anyMatch(type -> type.isInstance(exception)));
+        }
+        
+        /**
+         * Sets the overall deadline, measured from the start of the first attempt. Retries that
+         * would start after the deadline aren't made.
+         *
+         * @param deadline  maximum time to keep retrying
+         *
+         * @return this builder
+         */
+        public Builder deadline(Duration deadline)
+        {
+            this.deadline = Objects.requireNonNull(deadline, "deadline");
+            return this;
+        }
+        
+        /**
+         * Creates a new retry policy.
+         *
+         * @return a new retry policy
+         */
+        public RetryPolicy build() { return new RetryPolicy(this); }
+    }
+}
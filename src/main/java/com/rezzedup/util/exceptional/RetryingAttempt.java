@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Attempt that retries failed actions according to a {@link RetryPolicy}. Only the exception from
+ * the final attempt is handed to {@link #catcher()}.
+ *
+ * <p>Synchronous operations wait between attempts by parking the calling thread (which unmounts
+ * virtual threads rather than pinning them), and stop retrying if it's interrupted (an action that
+ * throws {@link InterruptedException} also has its thread's interrupt status restored). Asynchronous
+ * operations don't hold any thread while waiting: each retry is scheduled with
+ * {@link CompletableFuture#delayedExecutor(long, TimeUnit, Executor)}, which is backed by a single
+ * shared scheduler.</p>
+ *
+ * @see Attempt#retrying(RetryPolicy)
+ */
+public final class RetryingAttempt extends DecoratedAttempt
+{
+    private final RetryPolicy policy;
+    
+    RetryingAttempt(Attempt origin, RetryPolicy policy)
+    {
+        super(origin);
+        this.policy = Objects.requireNonNull(policy, "policy");
+    }
+    
+    /**
+     * Gets the retry policy.
+     *
+     * @return the retry policy
+     */
+    public RetryPolicy policy() { return policy; }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        long start = System.nanoTime();
+        
+        for (int attempts = 1; ; attempts++)
+        {
+            try { return proceed(supplier); }
+            catch (Exception e)
+            {
+                // Never retried: restore the interrupt so the caller still sees it.
+                if (e instanceof InterruptedException) { Thread.currentThread().interrupt(); }
+                
+                long delay = policy.nextDelayNanos(e, attempts, System.nanoTime() - start);
+                if (delay < 0 || !pause(delay)) { throw e; }
+            }
+        }
+    }
+    
+    private static boolean pause(long nanos)
+    {
+        long until = System.nanoTime() + nanos;
+        
+        for (long remaining = nanos; remaining > 0; remaining = until - System.nanoTime())
+        {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) { return false; }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional supplier, retrying it as needed, without
+     * handing any exception to {@link #catcher()}.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param <T>       value type
+     *
+     * @return the result from the supplier, or the exception thrown by the final attempt
+     */
+    public <T> ThrowsOr<T> result(CheckedSupplier<@NullOr T, ? extends Exception> supplier)
+    {
+        try { return ThrowsOr.maybe(call(supplier)); }
+        catch (Exception e) { return ThrowsOr.raise(e); }
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional supplier on the provided executor, retrying
+     * it as needed. If all attempts fail, the final exception is handed to {@link #catcher()}
+     * then completes the result. If the catcher throws, the future completes exceptionally.
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param executor  executes each attempt
+     * @param <T>       value type
+     *
+     * @return a future result from the supplier, or the exception thrown by the final attempt
+     */
+    @Override
+    public <T> CompletableFuture<ThrowsOr<T>> getAsync(CheckedSupplier<@NullOr T, ? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(executor, "executor");
+        
+        CompletableFuture<ThrowsOr<T>> future = new CompletableFuture<>();
+        long start = System.nanoTime();
+        
+        try { executor.execute(() -> attemptAsync(supplier, executor, future, 1, start)); }
+        catch (RuntimeException e) { future.completeExceptionally(e); }
+        
+        return future;
+    }
+    
+    private <T> void attemptAsync(
+        CheckedSupplier<@NullOr T, ? extends Exception> supplier,
+        Executor executor,
+        CompletableFuture<ThrowsOr<T>> future,
+        int attempts,
+        long start
+    )
+    {
+        if (future.isDone()) { return; } // cancelled
+        
+        try { future.complete(ThrowsOr.maybe(proceed(supplier))); }
+        catch (Exception e)
+        {
+            long delay = policy.nextDelayNanos(e, attempts, System.nanoTime() - start);
+            
+            if (delay < 0)
+            {
+                try
+                {
+                    catcher().handleOrRethrowError(e);
+                    future.complete(ThrowsOr.raise(e));
+                }
+                catch (Throwable t) { future.completeExceptionally(t); }
+            }
+            else
+            {
+                Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor);
+                try { delayed.execute(() -> attemptAsync(supplier, executor, future, attempts + 1, start)); }
+                catch (RuntimeException rejected) { future.completeExceptionally(rejected); }
+            }
+        }
+        catch (Throwable t) { future.completeExceptionally(t); }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "RetryingAttempt{origin=" + origin + ", policy=" + policy + "}";
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Catcher that only hands some exceptions to its delegate, suppressing the rest.
+ *
+ * <p>Exceptions can be limited to a number of permits per time window (a token bucket), sampled
+ * (roughly one in every N), or both. Suppressed exceptions are only counted, and the count is
+ * periodically reported to a summary catcher as a {@link Summary}.</p>
+ *
+ * <p>Nothing here blocks: permits and summaries are claimed with a single compare-and-set, and
+ * suppressed exceptions are counted with striped counters.</p>
+ *
+ * @param <E>   exception type
+ *
+ * @see Catcher#throttle(Catcher)
+ */
+public final class ThrottledCatcher<E extends Throwable> implements Catcher<E>
+{
+    private final Catcher<? super E> delegate;
+    private final @NullOr TokenBucket bucket;
+    private final int sampling;
+    private final Catcher<? super Summary> summaries;
+    private final long summaryIntervalNanos;
+    private final LongSupplier clock;
+    
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder unreported = new LongAdder();
+    private final AtomicLong lastSummary;
+    
+    private ThrottledCatcher(Builder<E> builder)
+    {
+        this.delegate = builder.delegate;
+        this.bucket = (builder.permits > 0) ? new TokenBucket(builder.permits, builder.window, builder.clock) : null;
+        this.sampling = builder.sampling;
+        this.summaries = builder.summaries;
+        this.summaryIntervalNanos = builder.summaryInterval.toNanos();
+        this.clock = builder.clock;
+        this.lastSummary = new AtomicLong(clock.getAsLong());
+    }
+    
+    private boolean permits()
+    {
+        if (sampling > 1 && ThreadLocalRandom.current().nextInt(sampling) != 0) { return false; }
+        return bucket == null || bucket.tryAcquire();
+    }
+    
+    @Override
+    public void handle(E exception)
+    {
+        if (permits())
+        {
+            passed.increment();
+            summarizeIfDue();
+            delegate.handle(exception);
+        }
+        else
+        {
+            suppressed.increment();
+            unreported.increment();
+            summarizeIfDue();
+        }
+    }
+    
+    private void summarizeIfDue()
+    {
+        long last = lastSummary.get();
+        long now = clock.getAsLong();
+        
+        if (now - last < summaryIntervalNanos) { return; }
+        // Only one thread gets to report each interval.
+        if (!lastSummary.compareAndSet(last, now)) { return; }
+        
+        long count = unreported.sumThenReset();
+        if (count > 0) { summaries.handle(new Summary(count, Duration.ofNanos(now - last))); }
+    }
+    
+    /**
+     * Gets the delegate that permitted exceptions are handed to.
+     *
+     * @return the delegate catcher
+     */
+    public Catcher<? super E> delegate() { return delegate; }
+    
+    /**
+     * Gets the total number of exceptions handed to the delegate.
+     *
+     * @return the number of permitted exceptions
+     */
+    public long passed() { return passed.sum(); }
+    
+    /**
+     * Gets the total number of suppressed exceptions.
+     *
+     * @return the number of suppressed exceptions
+     */
+    public long suppressed() { return suppressed.sum(); }
+    
+    @Override
+    public String toString()
+    {
+        return "ThrottledCatcher{delegate=" + delegate + ", passed=" + passed() + ", suppressed=" + suppressed() + "}";
+    }
+    
+    /**
+     * Reports how many exceptions were suppressed since the previous summary. Summaries are
+     * stackless, since where they're created is meaningless.
+     */
+    public static final class Summary extends RuntimeException
+    {
+        private final long count;
+        private final Duration period;
+        
+        Summary(long count, Duration period)
+        {
+            super("Suppressed " + count + " exception(s) in the last " + period, null, false, false);
+            this.count = count;
+            this.period = period;
+        }
+        
+        /**
+         * Gets the number of exceptions suppressed in this period.
+         *
+         * @return the number of suppressed exceptions
+         */
+        public long count() { return count; }
+        
+        /**
+         * Gets the length of time since the previous summary.
+         *
+         * @return the summarized period
+         */
+        public Duration period() { return period; }
+    }
+    
+    /**
+     * Builds throttled catchers.
+     *
+     * @param <E>   exception type
+     */
+    public static final class Builder<E extends Throwable>
+    {
+        private final Catcher<? super E> delegate;
+        private int permits = 0;
+        private Duration window = Duration.ZERO;
+        private int sampling = 1;
+        private Catcher<? super Summary> summaries = Catcher::ignore;
+        private Duration summaryInterval = Duration.ofMinutes(1);
+        private LongSupplier clock = System::nanoTime;
+        
+        Builder(Catcher<? super E> delegate)
+        {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+        
+        /**
+         * Limits exceptions to the provided number of permits per window, which refill gradually.
+         * Up to {@code permits} exceptions may pass in a burst.
+         *
+         * @param permits   maximum number of exceptions per window
+         * @param window    length of the window
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if permits or window are not positive
+         */
+        public Builder<E> limit(int permits, Duration window)
+        {
+            Objects.requireNonNull(window, "window");
+            if (permits <= 0) { throw new IllegalArgumentException("permits must be positive: " + permits); }
+            if (window.isNegative() || window.isZero()) { throw new IllegalArgumentException("window must be positive: " + window); }
+            
+            this.permits = permits;
+            this.window = window;
+            return this;
+        }
+        
+        /**
+         * Samples exceptions, randomly letting through roughly one in every {@code n}.
+         * If combined with {@link #limit(int, Duration)}, sampled exceptions still require a permit.
+         *
+         * @param n     sampling rate (1 lets everything through)
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if n is not positive
+         */
+        public Builder<E> sample(int n)
+        {
+            if (n <= 0) { throw new IllegalArgumentException("n must be positive: " + n); }
+            this.sampling = n;
+            return this;
+        }
+        
+        /**
+         * Reports the number of suppressed exceptions to the provided catcher at most once per
+         * interval. Summaries are only created when there's something to report, and only while
+         * exceptions are being handled. Defaults to ignoring summaries.
+         *
+         * @param summaries     handles summaries
+         * @param interval      minimum time between summaries
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if interval is not positive
+         */
+        public Builder<E> summarize(Catcher<? super Summary> summaries, Duration interval)
+        {
+            Objects.requireNonNull(summaries, "summaries");
+            Objects.requireNonNull(interval, "interval");
+            if (interval.isNegative() || interval.isZero()) { throw new IllegalArgumentException("interval must be positive: " + interval); }
+            
+            this.summaries = summaries;
+            this.summaryInterval = interval;
+            return this;
+        }
+        
+        // Visible for testing.
+        Builder<E> clock(LongSupplier clock)
+        {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+        
+        /**
+         * Creates a new throttled catcher.
+         *
+         * @return a new throttled catcher
+         * @throws IllegalStateException if neither a limit nor sampling is configured
+         */
+        public ThrottledCatcher<E> build()
+        {
+            if (permits <= 0 && sampling <= 1)
+            {
+                throw new IllegalStateException("Nothing to throttle: configure a limit or sampling");
+            }
+            return new ThrottledCatcher<>(this);
+        }
+    }
+}
@@ -7,6 +7,8 @@
  */
 package com.rezzedup.util.exceptional;
 
+import com.rezzedup.util.exceptional.checked.CheckedFunction;
+import com.rezzedup.util.exceptional.checked.CheckedPredicate;
 import com.rezzedup.util.exceptional.checked.CheckedSupplier;
 import pl.tlinkowski.annotation.basic.NullOr;
 
@@ -203,10 +205,11 @@ public class ThrowsOr<V>
      * @return the value, if it exists
      * @throws Rethrow the rethrown exception, if it exists
      * @throws NoSuchElementException if no value nor exception exist
+     * @see Rethrow#of(Throwable)
      */
     public V getOrThrow()
     {
-        if (exception != null) { throw new Rethrow(exception); }
+        if (exception != null) { throw Rethrow.of(exception); }
         if (value != null) { return value; }
         throw new NoSuchElementException("value");
     }
@@ -267,6 +270,177 @@ public class ThrowsOr<V>
         throw new IllegalStateException("Cannot propagate: not exceptional");
     }
     
+    // Only ever called on instances without a value, where the value type is irrelevant.
+    @SuppressWarnings("unchecked")
+    private <T> ThrowsOr<T> adopt() { return (ThrowsOr<T>) this; }
+    
+    /**
+     * Maps the value (if present) with the provided function. Any exception thrown by the
+     * function is contained in the result instead.
+     *
+     * <p>If there is no value, this same instance is returned as-is (just like {@link #propagate()}).</p>
+     *
+     * @param mapper    potentially exceptional value mapper
+     * @param <U>       mapped value type
+     *
+     * @return the mapped value (or {@link #empty()} if it's null), an exception thrown by the mapper,
+     *         or this instance if there's no value
+     * @throws NullPointerException if mapper is {@code null}
+     */
+    public <U> ThrowsOr<U> map(CheckedFunction<? super V, ? extends @NullOr U, ? extends Exception> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper");
+        if (value == null) { return adopt(); }
+        try { return maybe(mapper.applyOrThrow(value)); }
+        catch (Exception e) { return raise(e); }
+    }
+    
+    /**
+     * Maps the value (if present) into another {@code ThrowsOr} with the provided function.
+     * Any exception thrown by the function is contained in the result instead.
+     *
+     * <p>If there is no value, this same instance is returned as-is (just like {@link #propagate()}).</p>
+     *
+     * @param mapper    potentially exceptional value mapper
+     * @param <U>       mapped value type
+     *
+     * @return the result of the mapper, an exception thrown by the mapper, or this instance if there's no value
+     * @throws NullPointerException if mapper is {@code null} or returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <U> ThrowsOr<U> flatMap(CheckedFunction<? super V, ? extends ThrowsOr<? extends U>, ? extends Exception> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper");
+        if (value == null) { return adopt(); }
+        
+        ThrowsOr<? extends U> result;
+        try { result = mapper.applyOrThrow(value); }
+        catch (Exception e) { return raise(e); }
+        
+        // Safe: instances are immutable, so they can be read as any supertype of their value type.
+        return (ThrowsOr<U>) Objects.requireNonNull(result, "result");
+    }
+    
+    /**
+     * Keeps the value (if present) only if it matches the provided predicate, otherwise
+     * {@link #empty()} is returned. Any exception thrown by the predicate is contained in the result instead.
+     *
+     * <p>If there is no value, this same instance is returned as-is.</p>
+     *
+     * @param predicate     potentially exceptional value predicate
+     *
+     * @return this instance if the value matches or there's no value, {@link #empty()} if it doesn't match,
+     *         or an exception thrown by the predicate
+     * @throws NullPointerException if predicate is {@code null}
+     */
+    public ThrowsOr<V> filter(CheckedPredicate<? super V, ? extends Exception> predicate)
+    {
+        Objects.requireNonNull(predicate, "predicate");
+        if (value == null) { return this; }
+        try { return (predicate.testOrThrow(value)) ? this : empty(); }
+        catch (Exception e) { return raise(e); }
+    }
+    
+    /**
+     * Recovers from the exception (if present) by mapping it into a value with the provided function.
+     * Any exception thrown by the function is contained in the result instead.
+     *
+     * <p>If there is no exception, this same instance is returned as-is.</p>
+     *
+     * @param recovery  potentially exceptional exception-to-value mapper
+     *
+     * @return the recovered value (or {@link #empty()} if it's null), an exception thrown by the recovery
+     *         function, or this instance if it isn't exceptional
+     * @throws NullPointerException if recovery is {@code null}
+     */
+    public ThrowsOr<V> recover(CheckedFunction<? super Throwable, ? extends @NullOr V, ? extends Exception> recovery)
+    {
+        Objects.requireNonNull(recovery, "recovery");
+        if (exception == null) { return this; }
+        try { return maybe(recovery.applyOrThrow(exception)); }
+        catch (Exception e) { return raise(e); }
+    }
+    
+    /**
+     * Recovers from the exception (if present) by mapping it into another {@code ThrowsOr} with the
+     * provided function. Any exception thrown by the function is contained in the result instead.
+     *
+     * <p>If there is no exception, this same instance is returned as-is.</p>
+     *
+     * @param recovery  potentially exceptional exception mapper
+     *
+     * @return the result of the recovery function, an exception thrown by it, or this instance
+     *         if it isn't exceptional
+     * @throws NullPointerException if recovery is {@code null} or returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public ThrowsOr<V> recoverWith(CheckedFunction<? super Throwable, ? extends ThrowsOr<? extends V>, ? extends Exception> recovery)
+    {
+        Objects.requireNonNull(recovery, "recovery");
+        if (exception == null) { return this; }
+        
+        ThrowsOr<? extends V> result;
+        try { result = recovery.applyOrThrow(exception); }
+        catch (Exception e) { return raise(e); }
+        
+        return (ThrowsOr<V>) Objects.requireNonNull(result, "result");
+    }
+    
+    /**
+     * Maps the exception (if present) into another exception with the provided function, like when
+     * wrapping it with a more specific type. Any exception thrown by the function is contained in
+     * the result instead.
+     *
+     * <p>If there is no exception, this same instance is returned as-is.</p>
+     *
+     * @param mapper    potentially exceptional exception mapper
+     *
+     * @return the mapped exception, an exception thrown by the mapper, or this instance if it isn't exceptional
+     * @throws NullPointerException if mapper is {@code null} or returns {@code null}
+     */
+    public ThrowsOr<V> mapException(CheckedFunction<? super Throwable, ? extends Throwable, ? extends Exception> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper");
+        if (exception == null) { return this; }
+        
+        Throwable result;
+        try { result = mapper.applyOrThrow(exception); }
+        catch (Exception e) { return raise(e); }
+        
+        return (result == exception) ? this : raise(result);
+    }
+    
+    /**
+     * Reduces this instance into a single result by applying whichever function corresponds to its
+     * contents. Unlike the other transformations, the result isn't wrapped, so any exception thrown by
+     * the functions is thrown directly.
+     *
+     * @param ifValue       applied to the value, if present
+     * @param ifException   applied to the exception, if present
+     * @param ifEmpty       supplies the result if neither value nor exception are present
+     * @param <R>           result type
+     * @param <E>           exception type
+     *
+     * @return the result of the corresponding function
+     * @throws E an exception thrown by the corresponding function
+     * @throws NullPointerException if any of the functions are {@code null}
+     */
+    public <R, E extends Exception> R fold(
+        CheckedFunction<? super V, ? extends R, ? extends E> ifValue,
+        CheckedFunction<? super Throwable, ? extends R, ? extends E> ifException,
+        CheckedSupplier<? extends R, ? extends E> ifEmpty
+    )
+        throws E
+    {
+        Objects.requireNonNull(ifValue, "ifValue");
+        Objects.requireNonNull(ifException, "ifException");
+        Objects.requireNonNull(ifEmpty, "ifEmpty");
+        
+        if (value != null) { return ifValue.applyOrThrow(value); }
+        if (exception != null) { return ifException.applyOrThrow(exception); }
+        return ifEmpty.getOrThrow();
+    }
+    
     @Override
     public String toString()
     {
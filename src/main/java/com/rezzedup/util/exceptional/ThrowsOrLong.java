@@ -0,0 +1,272 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedLongSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * {@code long} specialization of {@link ThrowsOr}, which avoids boxing the value.
+ *
+ * @see ThrowsOr
+ */
+@SuppressWarnings("unused")
+public class ThrowsOrLong
+{
+    private static final ThrowsOrLong EMPTY = new ThrowsOrLong();
+    
+    /**
+     * Gets an empty {@code ThrowsOrLong} that contains neither value nor exception. It is completely empty.
+     *
+     * @return the empty instance
+     */
+    public static ThrowsOrLong empty() { return EMPTY; }
+    
+    /**
+     * Creates a new {@code ThrowsOrLong} containing the provided value.
+     *
+     * @param value     the value
+     *
+     * @return a new instance containing the value
+     */
+    public static ThrowsOrLong value(long value) { return new ThrowsOrLong(value); }
+    
+    /**
+     * Creates a new {@code ThrowsOrLong} containing the provided exception.
+     *
+     * @param exception     the exception
+     *
+     * @return a new instance containing the exception
+     * @throws NullPointerException if exception is {@code null}
+     */
+    public static ThrowsOrLong raise(Throwable exception)
+    {
+        Objects.requireNonNull(exception, "exception");
+        return new ThrowsOrLong(exception);
+    }
+    
+    /**
+     * Creates a new {@code ThrowsOrLong} containing the supplied exception.
+     *
+     * @param exceptionSupplier     exception supplier
+     *
+     * @return a new instance containing the supplied exception
+     * @throws NullPointerException if either exception supplier itself or
+     *                              the supplied exception are {@code null}
+     */
+    public static ThrowsOrLong raise(Supplier<Throwable> exceptionSupplier)
+    {
+        Objects.requireNonNull(exceptionSupplier, "exceptionSupplier");
+        return raise(exceptionSupplier.get());
+    }
+    
+    /**
+     * Creates a new {@code ThrowsOrLong} containing the supplied value or the exception thrown
+     * when attempting to get it.
+     *
+     * @param supplier  possibly exceptional value supplier
+     *
+     * @return a new instance containing the supplied value or an exception
+     * @throws NullPointerException if supplier is {@code null}
+     */
+    public static ThrowsOrLong result(CheckedLongSupplier<? extends Exception> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        try { return value(supplier.getAsLongOrThrow()); }
+        catch (Exception e) { return raise(e); }
+    }
+    
+    /**
+     * Converts a boxed {@code ThrowsOr} into its unboxed equivalent.
+     *
+     * @param boxed     the boxed instance
+     *
+     * @return an instance containing the same value, exception, or nothing at all
+     * @throws NullPointerException if boxed is {@code null}
+     * @see #boxed()
+     */
+    public static ThrowsOrLong unboxed(ThrowsOr<? extends Long> boxed)
+    {
+        Objects.requireNonNull(boxed, "boxed");
+        if (boxed.isValuePresent()) { return value(boxed.getOrThrow()); }
+        if (boxed.isExceptional()) { return raise(boxed.exceptionOrThrow()); }
+        return empty();
+    }
+    
+    private final boolean present;
+    private final long value;
+    private final @NullOr Throwable exception;
+    
+    private ThrowsOrLong()
+    {
+        this.present = false;
+        this.value = 0;
+        this.exception = null;
+    }
+    
+    private ThrowsOrLong(long value)
+    {
+        this.present = true;
+        this.value = value;
+        this.exception = null;
+    }
+    
+    private ThrowsOrLong(Throwable exception)
+    {
+        this.present = false;
+        this.value = 0;
+        this.exception = exception;
+    }
+    
+    /**
+     * Returns {@code true} if and only if <b>both</b> value and exception are not present.
+     * Useful for checking for the empty instance.
+     *
+     * @return {@code true} if neither value nor exception are present
+     *
+     * @see #empty()
+     * @see #isValuePresent()
+     * @see #isExceptional()
+     */
+    public boolean isEmpty() { return !present && exception == null; }
+    
+    /**
+     * Checks if a value is present. If the result is {@code true}, then it is safe to get the value
+     * directly with {@link #getAsLongOrThrow()} (no exceptions will be thrown).
+     *
+     * @return {@code true} if value is present
+     */
+    public boolean isValuePresent() { return present; }
+    
+    /**
+     * Checks if there is no value. If the result is {@code true}, then exceptions <b>will</b> be thrown
+     * when attempting to get the value directly with {@link #getAsLongOrThrow()}.
+     *
+     * @return {@code true} if value is missing
+     */
+    public boolean isValueEmpty() { return !present; }
+    
+    /**
+     * Gets the value wrapped by an {@code OptionalLong}.
+     *
+     * @return an optional containing the value or empty
+     */
+    public OptionalLong value() { return (present) ? OptionalLong.of(value) : OptionalLong.empty(); }
+    
+    /**
+     * Gets the value or rethrows the exception contained within this instance. If this is empty,
+     * a {@code NoSuchElementException} is thrown instead.
+     *
+     * @return the value, if it exists
+     * @throws Rethrow the rethrown exception, if it exists
+     * @throws NoSuchElementException if no value nor exception exist
+     * @see Rethrow#of(Throwable)
+     */
+    public long getAsLongOrThrow()
+    {
+        if (exception != null) { throw Rethrow.of(exception); }
+        if (present) { return value; }
+        throw new NoSuchElementException("value");
+    }
+    
+    /**
+     * Checks if an exception is present. If the result is {@code true}, then it is safe to get the exception
+     * directly with {@link #exceptionOrThrow()} (no exceptions will be thrown).
+     *
+     * @return {@code true} if exception is present
+     */
+    public boolean isExceptional() { return exception != null; }
+    
+    /**
+     * Checks if there is no exception. If the result is {@code true}, then exceptions <b>will</b> be thrown
+     * when attempting to get the exception directly with {@link #exceptionOrThrow()}.
+     *
+     * @return {@code true} if exception is missing
+     */
+    public boolean isNotExceptional() { return exception == null; }
+    
+    /**
+     * Returns the exception wrapped by an {@code Optional}.
+     *
+     * @return an optional containing the exception or empty
+     */
+    public Optional<Throwable> exception() { return Optional.ofNullable(exception); }
+    
+    /**
+     * Gets the exception or throws {@code NoSuchElementException} if there isn't one.
+     *
+     * @return the exception
+     * @throws NoSuchElementException if there is no exception
+     */
+    public Throwable exceptionOrThrow()
+    {
+        if (exception != null) { return exception; }
+        throw new NoSuchElementException("exception");
+    }
+    
+    /**
+     * Propagates the exception contained within this instance to a {@code ThrowsOr} of any value type.
+     * If there is no exception, an {@code IllegalStateException} is thrown.
+     *
+     * @param <T>   value type
+     *
+     * @return a new instance containing the same exception
+     * @throws IllegalStateException if no exception is present
+     * @see ThrowsOr#propagate()
+     */
+    public <T> ThrowsOr<T> propagate()
+    {
+        if (exception != null) { return ThrowsOr.raise(exception); }
+        throw new IllegalStateException("Cannot propagate: not exceptional");
+    }
+    
+    /**
+     * Converts this instance into its boxed equivalent.
+     *
+     * @return a {@code ThrowsOr} containing the same (boxed) value, exception, or nothing at all
+     * @see #unboxed(ThrowsOr)
+     */
+    public ThrowsOr<Long> boxed()
+    {
+        if (present) { return ThrowsOr.value(value); }
+        if (exception != null) { return ThrowsOr.raise(exception); }
+        return ThrowsOr.empty();
+    }
+    
+    @Override
+    public String toString()
+    {
+        if (present) { return "ThrowsOrLong{value=" + value + "}"; }
+        if (exception != null) { return "ThrowsOrLong{exception=" + exception + "}"; }
+        return "ThrowsOrLong{}";
+    }
+    
+    @Override
+    public boolean equals(@NullOr Object o)
+    {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        ThrowsOrLong throwsOr = (ThrowsOrLong) o;
+        return present == throwsOr.present && value == throwsOr.value && Objects.equals(exception, throwsOr.exception);
+    }
+    
+    @Override
+    public int hashCode()
+    {
+        int result = Boolean.hashCode(present);
+        result = 31 * result + Long.hashCode(value);
+        result = 31 * result + Objects.hashCode(exception);
+        return result;
+    }
+}
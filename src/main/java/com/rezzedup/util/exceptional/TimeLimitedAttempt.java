@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Attempt that bounds how long each action may take. Actions run on a worker executor while the
+ * caller waits; if one doesn't complete in time, its worker is interrupted and a
+ * {@link TimeoutException} is handed to {@link #catcher()} instead.
+ *
+ * <p>Cancellation is cooperative: an action that ignores interrupts keeps running in the background,
+ * but the caller no longer waits for it. Since actions run on another thread, they don't see the
+ * caller's thread-locals.</p>
+ *
+ * @see Attempt#timeout(Duration)
+ */
+public final class TimeLimitedAttempt extends DecoratedAttempt
+{
+    private final Duration timeout;
+    private final long timeoutNanos;
+    private final Executor executor;
+    
+    TimeLimitedAttempt(Attempt origin, Duration timeout, Executor executor)
+    {
+        super(origin);
+        
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isNegative()) { throw new IllegalArgumentException("timeout must not be negative: " + timeout); }
+        
+        this.timeout = timeout;
+        this.timeoutNanos = timeout.toNanos();
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+    
+    /**
+     * Gets the maximum time each action may take.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() { return timeout; }
+    
+    private TimeoutException timedOut() { return new TimeoutException("Timed out after " + timeout); }
+    
+    @Override
+    <T> @NullOr T call(CheckedSupplier<@NullOr T, ? extends Exception> supplier) throws Exception
+    {
+        FutureTask<@NullOr T> task = new FutureTask<>(() -> proceed(supplier));
+        executor.execute(task);
+        
+        try { return task.get(timeoutNanos, TimeUnit.NANOSECONDS); }
+        catch (TimeoutException e)
+        {
+            task.cancel(true);
+            throw timedOut();
+        }
+        catch (InterruptedException e)
+        {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) { throw (Exception) cause; }
+            throw Sneaky.rethrow(cause);
+        }
+    }
+    
+    /**
+     * Gets the value from the potentially exceptional supplier on the provided executor, handing a
+     * {@link TimeoutException} to {@link #catcher()} if it doesn't complete in time. Nothing blocks
+     * while waiting: the timeout is scheduled with
+     * {@link CompletableFuture#delayedExecutor(long, TimeUnit)}.
+     *
+     * <p>Cancelling the returned future also interrupts the supplier. If the catcher itself throws,
+     * the future completes exceptionally instead.</p>
+     *
+     * @param supplier  potentially exceptional supplier
+     * @param executor  executes the supplier
+     * @param <T>       value type
+     *
+     * @return a future result from the supplier, or the thrown exception
+     */
+    @Override
+    public <T> CompletableFuture<ThrowsOr<T>> getAsync(CheckedSupplier<@NullOr T, ? extends Exception> supplier, Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(executor, "executor");
+        
+        CompletableFuture<ThrowsOr<T>> future = new CompletableFuture<>();
+        
+        FutureTask<@NullOr T> task = new FutureTask<>(() -> proceed(supplier))
+        {
+            @Override
+            protected void done() { complete(this, future); }
+        };
+        
+        future.whenComplete((result, exception) -> {
+            if (future.isCancelled()) { task.cancel(true); }
+        });
+        
+        try { executor.execute(task); }
+        catch (RejectedExecutionException e)
+        {
+            future.completeExceptionally(e);
+            return future;
+        }
+        
+        CompletableFuture.delayedExecutor(timeoutNanos, TimeUnit.NANOSECONDS).execute(() -> task.cancel(true));
+        return future;
+    }
+    
+    private <T> void complete(FutureTask<@NullOr T> task, CompletableFuture<ThrowsOr<T>> future)
+    {
+        if (future.isDone()) { return; }
+        
+        Exception exception;
+        
+        try
+        {
+            future.complete(ThrowsOr.maybe(task.get()));
+            return;
+        }
+        catch (CancellationException e) { exception = timedOut(); }
+        catch (InterruptedException e) { exception = e; } // unreachable: the task is already done
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (!(cause instanceof Exception))
+            {
+                future.completeExceptionally(cause);
+                return;
+            }
+            exception = (Exception) cause;
+        }
+        
+        try
+        {
+            catcher().handleOrRethrowError(exception);
+            future.complete(ThrowsOr.raise(exception));
+        }
+        catch (Throwable t) { future.completeExceptionally(t); }
+    }
+    
+    @Override
+    public String toString()
+    {
+        return "TimeLimitedAttempt{origin=" + origin + ", timeout=" + timeout + "}";
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm: the entire state is the
+ * single time at which the bucket would be full again, updated with one compare-and-set.
+ */
+final class TokenBucket
+{
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong fullAt;
+    
+    TokenBucket(int permits, Duration window, LongSupplier clock)
+    {
+        this(permits, window, permits, clock);
+    }
+    
+    TokenBucket(int permits, Duration window, int burst, LongSupplier clock)
+    {
+        if (permits <= 0) { throw new IllegalArgumentException("permits must be positive: " + permits); }
+        if (window.isNegative() || window.isZero()) { throw new IllegalArgumentException("window must be positive: " + window); }
+        if (burst <= 0) { throw new IllegalArgumentException("burst must be positive: " + burst); }
+        
+        this.nanosPerPermit = Math.max(1, window.toNanos() / permits);
+        this.burstNanos = nanosPerPermit * burst;
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+    
+    /**
+     * Takes a permit if one is available right now.
+     *
+     * @return {@code true} if a permit was taken
+     */
+    boolean tryAcquire()
+    {
+        long now = clock.getAsLong();
+        
+        for (;;)
+        {
+            long current = fullAt.get();
+            long next = ((current - now > 0) ? current : now) + nanosPerPermit;
+            
+            if (next - now > burstNanos) { return false; }
+            if (fullAt.compareAndSet(current, next)) { return true; }
+        }
+    }
+    
+    /**
+     * Reserves the next permit if it becomes available within the maximum wait.
+     *
+     * @param maxWaitNanos  longest acceptable wait for the permit
+     *
+     * @return nanoseconds until the reserved permit may be used (zero if right now),
+     *         or {@code -1} if no permit was reserved
+     */
+    long reserve(long maxWaitNanos)
+    {
+        long now = clock.getAsLong();
+        
+        for (;;)
+        {
+            long current = fullAt.get();
+            long next = ((current - now > 0) ? current : now) + nanosPerPermit;
+            long wait = next - now - burstNanos;
+            
+            if (wait > maxWaitNanos) { return -1; }
+            if (fullAt.compareAndSet(current, next)) { return Math.max(0, wait); }
+        }
+    }
+}
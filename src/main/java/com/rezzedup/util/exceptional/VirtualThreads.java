@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executor for asynchronous attempts. On Java 21 and later, every task runs on its own
+ * virtual thread, so blocking calls scale to tens of thousands of concurrent operations without
+ * tying up platform threads. Otherwise, tasks run on a shared pool of daemon platform threads which
+ * grows on demand and shrinks when idle. (The common fork-join pool isn't used as a fallback: it
+ * may have as little as one thread, which blocking calls would starve.)
+ *
+ * <p>Virtual threads are found at runtime rather than compiled against, so the same Java 11 build
+ * uses them wherever they're available.</p>
+ */
+public final class VirtualThreads
+{
+    private VirtualThreads() { throw new UnsupportedOperationException(); }
+    
+    private static final @NullOr ExecutorService VIRTUAL = virtualThreadPerTaskExecutor();
+    
+    private static final class Platform
+    {
+        private static final AtomicInteger COUNT = new AtomicInteger();
+        
+        static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "exceptional-worker-" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    private static @NullOr ExecutorService virtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            MethodHandle factory =
+                MethodHandles.publicLookup().findStatic(
+                    Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)
+                );
+            
+            return (ExecutorService) factory.invokeExact();
+        }
+        // Missing before Java 19, or a preview feature that isn't enabled (Java 19 and 20).
+        catch (ReflectiveOperationException | UnsupportedOperationException e) { return null; }
+        catch (Throwable e) { throw Sneaky.rethrow(e); }
+    }
+    
+    /**
+     * Checks whether virtual threads are available.
+     *
+     * @return {@code true} if tasks run on virtual threads
+     */
+    public static boolean isAvailable() { return VIRTUAL != null; }
+    
+    /**
+     * Gets the shared executor which runs each task on a new virtual thread if available, or on a
+     * shared pool of daemon platform threads otherwise.
+     *
+     * @return the default executor for asynchronous attempts
+     */
+    public static Executor executor()
+    {
+        @NullOr ExecutorService virtual = VIRTUAL;
+        return (virtual != null) ? virtual : Platform.EXECUTOR;
+    }
+}
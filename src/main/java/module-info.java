@@ -13,6 +13,8 @@
 module com.rezzedup.util.exceptional
 {
     requires static pl.tlinkowski.annotation.basic;
+    requires static java.management;
+    requires static jdk.jfr;
     
     exports com.rezzedup.util.exceptional;
     exports com.rezzedup.util.exceptional.checked;
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncCatcherTests
+{
+    @Test
+    public void deliversOnBackgroundThread() throws InterruptedException
+    {
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+        
+        try (AsyncCatcher<Exception> catcher = Catcher.<Exception>async(e -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }).start())
+        {
+            for (int i = 0; i < 100; i++) { catcher.handle(new Exception()); }
+            
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            catcher.close(); // joins the worker, so its last delivery is counted
+            
+            assertEquals(100, catcher.delivered());
+            assertEquals(0, catcher.dropped());
+            assertFalse(threads.contains(Thread.currentThread()));
+        }
+    }
+    
+    @Test
+    public void dropsNewestWhenFull() throws InterruptedException
+    {
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        AsyncCatcher<Exception> catcher =
+            Catcher.<Exception>async(e -> {
+                blocked.countDown();
+                try { release.await(); }
+                catch (InterruptedException ignored) {}
+                handled.add(e.getMessage());
+            })
+            .capacity(2)
+            .start();
+        
+        // Occupy the background thread so that everything else stays in the buffer.
+        catcher.handle(new Exception("0"));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        
+        for (int i = 1; i <= 5; i++) { catcher.handle(new Exception(String.valueOf(i))); }
+        
+        assertEquals(3, catcher.dropped());
+        release.countDown();
+        catcher.close();
+        
+        assertEquals(List.of("0", "1", "2"), handled);
+    }
+    
+    @Test
+    public void dropsOldestWhenFull() throws InterruptedException
+    {
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        AsyncCatcher<Exception> catcher =
+            Catcher.<Exception>async(e -> {
+                blocked.countDown();
+                try { release.await(); }
+                catch (InterruptedException ignored) {}
+                handled.add(e.getMessage());
+            })
+            .capacity(2)
+            .overflow(AsyncCatcher.OverflowPolicy.DROP_OLDEST)
+            .start();
+        
+        catcher.handle(new Exception("0"));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        
+        for (int i = 1; i <= 5; i++) { catcher.handle(new Exception(String.valueOf(i))); }
+        
+        assertEquals(3, catcher.dropped());
+        release.countDown();
+        catcher.close();
+        
+        assertEquals(List.of("0", "4", "5"), handled);
+    }
+    
+    @Test
+    public void dropOldestNeverLosesNewestWhileDraining()
+    {
+        for (int round = 0; round < 200; round++)
+        {
+            List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+            AsyncCatcher<Exception> catcher =
+                Catcher.<Exception>async(e -> handled.add(Integer.valueOf(e.getMessage())))
+                    .capacity(1)
+                    .overflow(AsyncCatcher.OverflowPolicy.DROP_OLDEST)
+                    .start();
+            
+            // Racing the worker: an offer can fail on a buffer that it then empties before the poll.
+            for (int i = 0; i < 500; i++) { catcher.handle(new Exception(String.valueOf(i))); }
+            catcher.close();
+            
+            // Only older exceptions are discarded, and only when one actually was.
+            assertEquals(499, handled.get(handled.size() - 1));
+            assertEquals(500, handled.size() + catcher.dropped());
+            for (int i = 1; i < handled.size(); i++) { assertTrue(handled.get(i - 1) < handled.get(i)); }
+        }
+    }
+    
+    @Test
+    public void dropOldestCountsOnlyDiscardedExceptions() throws InterruptedException
+    {
+        for (int round = 0; round < 50; round++)
+        {
+            AtomicInteger handled = new AtomicInteger();
+            AsyncCatcher<Exception> catcher =
+                Catcher.<Exception>async(e -> handled.incrementAndGet())
+                    .capacity(2)
+                    .overflow(AsyncCatcher.OverflowPolicy.DROP_OLDEST)
+                    .start();
+            
+            Thread[] producers = new Thread[4];
+            
+            for (int i = 0; i < producers.length; i++)
+            {
+                producers[i] = new Thread(() -> {
+                    for (int j = 0; j < 2000; j++)
+                    {
+                        catcher.handle(new Exception());
+                        if (j % 64 == 0) { Thread.yield(); } // let the worker drain mid-overflow
+                    }
+                });
+                producers[i].start();
+            }
+            
+            for (Thread producer : producers) { producer.join(); }
+            catcher.close();
+            
+            assertEquals(8000, handled.get() + catcher.dropped());
+            assertEquals(handled.get(), catcher.delivered());
+            assertEquals(0, catcher.pending());
+        }
+    }
+    
+    @Test
+    public void handlesDirectlyOnceClosed()
+    {
+        List<Thread> threads = new ArrayList<>();
+        AsyncCatcher<Exception> catcher = Catcher.<Exception>async(e -> threads.add(Thread.currentThread())).start();
+        
+        catcher.close();
+        assertTrue(catcher.isClosed());
+        
+        catcher.handle(new Exception());
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+    
+    @Test
+    public void stillRethrowsErrorsOnCallingThread()
+    {
+        try (AsyncCatcher<Throwable> catcher = Catcher.async(Catcher::ignore).start())
+        {
+            assertThrows(AssertionError.class, () -> catcher.handleOrRethrowError(new AssertionError()));
+        }
+    }
+    
+    @Test
+    public void neverStrandsExceptionsHandledWhileClosing() throws InterruptedException
+    {
+        for (int round = 0; round < 50; round++)
+        {
+            AtomicInteger handled = new AtomicInteger();
+            AsyncCatcher<Exception> catcher = Catcher.<Exception>async(e -> handled.incrementAndGet()).capacity(1 << 16).start();
+            
+            Thread[] producers = new Thread[4];
+            CountDownLatch started = new CountDownLatch(producers.length);
+            
+            for (int i = 0; i < producers.length; i++)
+            {
+                producers[i] = new Thread(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 1000; j++) { catcher.handle(new Exception()); }
+                });
+                producers[i].start();
+            }
+            
+            started.await();
+            catcher.close();
+            for (Thread producer : producers) { producer.join(); }
+            
+            assertEquals(4000, handled.get());
+            assertEquals(0, catcher.pending());
+        }
+    }
+}
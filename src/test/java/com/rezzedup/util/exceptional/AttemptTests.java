@@ -7,18 +7,30 @@
  */
 package com.rezzedup.util.exceptional;
 
+import com.rezzedup.util.exceptional.checked.CheckedIntSupplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import pl.tlinkowski.annotation.basic.NullOr;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,6 +109,22 @@ public class AttemptTests
             
             maybe.assertIfResultExists(optional -> assertTrue(optional.isEmpty()));
         }
+        
+        // Test primitive suppliers with fallbacks
+        {
+            assertions.apply(ArithmeticException.class).accept(() -> assertEquals(-1, attempt.getAsIntOr(() -> 1 / 0, -1)));
+            assertions.apply(ArithmeticException.class).accept(() -> assertEquals(-1, attempt.getAsIntOr(() -> 1 / 0, () -> -1)));
+            assertions.apply(ArithmeticException.class).accept(() -> assertEquals(-1L, attempt.getAsLongOr(() -> 1L / 0L, -1L)));
+            assertions.apply(ArithmeticException.class).accept(() -> assertEquals(-1L, attempt.getAsLongOr(() -> 1L / 0L, () -> -1L)));
+            
+            assertions.apply(ArithmeticException.class).accept(() ->
+                assertEquals(-1.0, attempt.getAsDoubleOr(() -> { throw new ArithmeticException(); }, -1.0))
+            );
+            
+            assertions.apply(ArithmeticException.class).accept(() ->
+                assertEquals(-1.0, attempt.getAsDoubleOr(() -> { throw new ArithmeticException(); }, () -> -1.0))
+            );
+        }
     }
     
     @Test
@@ -119,6 +147,12 @@ public class AttemptTests
         test(Attempt.rethrowing(), exception -> task -> assertThrows(Rethrow.class, task));
     }
     
+    @Test
+    public void testStacklessRethrowAttempt()
+    {
+        test(Attempt.rethrowingStackless(), exception -> task -> assertThrows(Rethrow.class, task));
+    }
+    
     @Test
     public void testCustomizedSneakyAttempt()
     {
@@ -163,5 +197,68 @@ public class AttemptTests
             OptionalDouble maybe = assertDoesNotThrow(() -> Attempt.rethrowing().getAsDouble(() -> 1.0));
             assertTrue(maybe.isPresent());
         }
+        
+        // Test primitive suppliers with fallbacks (which should never be used)
+        {
+            IntSupplier intFallback = () -> fail("int fallback should not be used");
+            LongSupplier longFallback = () -> fail("long fallback should not be used");
+            DoubleSupplier doubleFallback = () -> fail("double fallback should not be used");
+            
+            assertEquals(1, Attempt.rethrowing().getAsIntOr(() -> 1, -1));
+            assertEquals(1, Attempt.rethrowing().getAsIntOr(() -> 1, intFallback));
+            assertEquals(1L, Attempt.rethrowing().getAsLongOr(() -> 1L, -1L));
+            assertEquals(1L, Attempt.rethrowing().getAsLongOr(() -> 1L, longFallback));
+            assertEquals(1.0, Attempt.rethrowing().getAsDoubleOr(() -> 1.0, -1.0));
+            assertEquals(1.0, Attempt.rethrowing().getAsDoubleOr(() -> 1.0, doubleFallback));
+        }
+    }
+    
+    @Test
+    public void checkedFallbacksUseTheirOwnCatcher()
+    {
+        CheckedIntSupplier<IOException> fallback = CheckedIntSupplier.of(Catcher::ignore, () -> { throw new IOException(); });
+        assertEquals(0, Attempt.ignoring().getAsIntOr(() -> 1 / 0, fallback));
+        assertThrows(Rethrow.class, () -> Attempt.ignoring().getAsIntOr(() -> 1 / 0, fallback.catcher(Catcher::rethrow)));
+    }
+    
+    @Test
+    public void asyncAttemptsCompleteWithResults() throws Exception
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        Attempt attempt = Attempt.with(handled::add);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try
+        {
+            List<CompletableFuture<ThrowsOr<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++)
+            {
+                int n = i;
+                futures.add(attempt.getAsIntAsync(() -> {
+                    if (n % 10 == 0) { throw new IOException(); }
+                    return n;
+                }, executor));
+            }
+            
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            
+            for (int i = 0; i < 100; i++)
+            {
+                ThrowsOr<Integer> result = futures.get(i).join();
+                if (i % 10 == 0) { assertTrue(result.exception().orElseThrow() instanceof IOException); }
+                else { assertEquals(i, result.value().orElseThrow()); }
+            }
+            
+            assertEquals(10, handled.size());
+            
+            ThrowsOr<Void> ran = attempt.runAsync(() -> {}, executor).get(5, TimeUnit.SECONDS);
+            assertTrue(ran.value().isEmpty() && ran.exception().isEmpty());
+            
+            CompletableFuture<ThrowsOr<Object>> rethrown =
+                Attempt.rethrowing().getAsync(() -> { throw new IOException(); }, executor);
+            
+            assertThrows(ExecutionException.class, () -> rethrown.get(5, TimeUnit.SECONDS));
+        }
+        finally { executor.shutdown(); }
     }
 }
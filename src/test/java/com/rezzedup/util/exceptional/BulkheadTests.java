@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadTests
+{
+    @Test
+    public void rejectsCallsBeyondTheLimit() throws Exception
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(2).build();
+        Attempt attempt = Attempt.with(handled::add).bulkhead(bulkhead);
+        
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        try
+        {
+            List<CompletableFuture<ThrowsOr<Void>>> running = new ArrayList<>();
+            for (int i = 0; i < 2; i++)
+            {
+                running.add(attempt.runAsync(() -> {
+                    started.countDown();
+                    release.await();
+                }, executor));
+            }
+            
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, bulkhead.inFlight());
+            
+            assertTrue(attempt.get(() -> "rejected").isEmpty());
+            assertEquals(1, bulkhead.rejected());
+            assertTrue(handled.get(0) instanceof Bulkhead.FullException);
+            
+            release.countDown();
+            for (CompletableFuture<ThrowsOr<Void>> future : running) { future.get(5, TimeUnit.SECONDS); }
+            
+            assertEquals(0, bulkhead.inFlight());
+            assertEquals("ok", attempt.get(() -> "ok").orElseThrow());
+        }
+        finally { executor.shutdownNow(); }
+    }
+    
+    @Test
+    public void waitsForPermitUpToMaxWait() throws Exception
+    {
+        Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).maxWait(Duration.ofSeconds(5)).build();
+        Attempt attempt = Attempt.rethrowing().bulkhead(bulkhead);
+        
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try
+        {
+            CompletableFuture<ThrowsOr<Void>> first = attempt.runAsync(() -> {
+                started.countDown();
+                Thread.sleep(50);
+            }, executor);
+            
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals("waited", attempt.get(() -> "waited").orElseThrow());
+            assertEquals(0, bulkhead.rejected());
+            first.get(5, TimeUnit.SECONDS);
+        }
+        finally { executor.shutdownNow(); }
+    }
+    
+    @Test
+    public void keepsInterruptWhileWaiting() throws Exception
+    {
+        Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).maxWait(Duration.ofSeconds(5)).build();
+        List<Exception> handled = new ArrayList<>();
+        Attempt attempt = Attempt.with(handled::add).bulkhead(bulkhead);
+        
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try
+        {
+            attempt.runAsync(() -> {
+                started.countDown();
+                release.await();
+            }, executor);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            
+            Thread.currentThread().interrupt();
+            attempt.run(() -> fail("shouldn't run"));
+            
+            assertTrue(Thread.interrupted()); // restored (and cleared for the remaining tests)
+            assertTrue(handled.get(0) instanceof InterruptedException);
+        }
+        finally
+        {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTests
+{
+    @Test
+    public void opensAfterRepeatedFailuresAndRecovers()
+    {
+        AtomicLong clock = new AtomicLong();
+        List<Exception> handled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        CircuitBreaker breaker =
+            CircuitBreaker.builder()
+                .window(4)
+                .minimumCalls(4)
+                .failureThreshold(0.5)
+                .openDuration(Duration.ofSeconds(10))
+                .clock(clock::get)
+                .build();
+        
+        Attempt attempt = Attempt.with(handled::add).circuitBreaker(breaker);
+        
+        attempt.run(calls::incrementAndGet);
+        attempt.run(calls::incrementAndGet);
+        attempt.run(() -> { calls.incrementAndGet(); throw new IOException(); });
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        
+        attempt.run(() -> { calls.incrementAndGet(); throw new IOException(); });
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(4, calls.get());
+        
+        // Rejected without being called, always with the same exception.
+        assertTrue(attempt.get(() -> calls.incrementAndGet()).isEmpty());
+        assertTrue(attempt.get(() -> calls.incrementAndGet()).isEmpty());
+        assertEquals(4, calls.get());
+        assertTrue(handled.get(2) instanceof CircuitBreaker.OpenException);
+        assertSame(handled.get(2), handled.get(3));
+        assertEquals(0, handled.get(2).getStackTrace().length);
+        
+        // A failed trial call opens it again.
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        attempt.run(() -> { calls.incrementAndGet(); throw new IOException(); });
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(5, calls.get());
+        
+        // A successful trial call closes it.
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(6, attempt.get(calls::incrementAndGet).orElseThrow());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.calls());
+    }
+    
+    @Test
+    public void slidingWindowForgetsOldFailures()
+    {
+        CircuitBreaker breaker = CircuitBreaker.builder().window(3).minimumCalls(3).failureThreshold(1.0).build();
+        Attempt attempt = Attempt.ignoring().circuitBreaker(breaker);
+        
+        for (int i = 0; i < 10; i++)
+        {
+            attempt.run(() -> { throw new IOException(); });
+            attempt.run(() -> { throw new IOException(); });
+            attempt.run(() -> {});
+        }
+        
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(3, breaker.calls());
+        assertEquals(2, breaker.failures());
+    }
+    
+    @Test
+    public void onlyTrialCallCloses() throws InterruptedException
+    {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker breaker =
+            CircuitBreaker.builder().window(2).minimumCalls(2).openDuration(Duration.ofSeconds(10)).clock(clock::get).build();
+        
+        Attempt attempt = Attempt.ignoring().circuitBreaker(breaker);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        CountDownLatch trialStarted = new CountDownLatch(1);
+        CountDownLatch releaseTrial = new CountDownLatch(1);
+        
+        // Starts while closed, then finishes successfully during the trial.
+        Thread slow = new Thread(() -> attempt.run(() -> {
+            slowStarted.countDown();
+            releaseSlow.await();
+        }));
+        slow.start();
+        slowStarted.await();
+        
+        attempt.run(() -> { throw new IOException(); });
+        attempt.run(() -> { throw new IOException(); });
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        Thread trial = new Thread(() -> attempt.run(() -> {
+            trialStarted.countDown();
+            releaseTrial.await();
+        }));
+        trial.start();
+        trialStarted.await();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        
+        releaseSlow.countDown();
+        slow.join();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        
+        releaseTrial.countDown();
+        trial.join();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
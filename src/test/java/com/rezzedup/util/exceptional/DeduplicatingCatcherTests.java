@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeduplicatingCatcherTests
+{
+    private static Exception create(String message) { return new IllegalStateException(message); }
+    
+    private static Exception createOther() { return new IllegalStateException(); }
+    
+    @Test
+    public void forwardsFirstOccurrencePerWindow()
+    {
+        AtomicLong clock = new AtomicLong();
+        List<Exception> handled = new ArrayList<>();
+        
+        DeduplicatingCatcher<Exception> catcher =
+            Catcher.<Exception>deduplicate(handled::add)
+                .frames(1)
+                .window(Duration.ofSeconds(10))
+                .clock(clock::get)
+                .build();
+        
+        // Different messages, same origin: duplicates.
+        for (int i = 0; i < 5; i++) { catcher.handle(create("id=" + i)); }
+        
+        assertEquals(1, handled.size());
+        assertEquals(1, catcher.forwarded());
+        assertEquals(4, catcher.repeats());
+        assertEquals(4, catcher.repeatsOf(create("")));
+        
+        // Different origin: distinct.
+        catcher.handle(createOther());
+        assertEquals(2, handled.size());
+        
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        catcher.handle(create("again"));
+        
+        assertEquals(3, handled.size());
+        assertEquals(0, catcher.repeatsOf(create("")));
+    }
+    
+    @Test
+    public void fingerprintsIncludeCauses()
+    {
+        Exception plain = create("");
+        Exception caused = create("");
+        caused.initCause(new IOException());
+        
+        assertNotEquals(DeduplicatingCatcher.fingerprint(plain, 1), DeduplicatingCatcher.fingerprint(caused, 1));
+        assertEquals(DeduplicatingCatcher.fingerprint(plain, 1), DeduplicatingCatcher.fingerprint(create("other"), 1));
+    }
+    
+    @Test
+    public void evictsLeastRecentlySeen()
+    {
+        List<Exception> handled = new ArrayList<>();
+        DeduplicatingCatcher<Exception> catcher = Catcher.<Exception>deduplicate(handled::add).frames(1).maximumSize(1).build();
+        
+        catcher.handle(create(""));
+        catcher.handle(createOther()); // evicts the first fingerprint
+        catcher.handle(create(""));
+        
+        assertEquals(3, handled.size());
+        assertEquals(0, catcher.repeats());
+    }
+    
+    @Test
+    public void rejectsInvalidSettings()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Catcher.deduplicate(Catcher::print).window(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.deduplicate(Catcher::print).window(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.deduplicate(Catcher::print).maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.deduplicate(Catcher::print).frames(-1));
+    }
+}
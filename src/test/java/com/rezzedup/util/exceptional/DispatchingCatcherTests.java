@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DispatchingCatcherTests
+{
+    @Test
+    public void dispatchesToMostSpecificHandler()
+    {
+        List<String> handled = new ArrayList<>();
+        
+        Catcher<Exception> catcher =
+            Catcher.<Exception>dispatch()
+                .on(IOException.class, e -> handled.add("io"))
+                .on(FileNotFoundException.class, e -> handled.add("file"))
+                .on(TimeoutException.class, e -> handled.add("timeout"))
+                .otherwise(e -> handled.add("otherwise"));
+        
+        catcher.handle(new IOException());
+        catcher.handle(new FileNotFoundException());
+        catcher.handle(new TimeoutException());
+        catcher.handle(new Exception());
+        catcher.handle(new IllegalStateException());
+        
+        // Cached resolutions must be stable.
+        catcher.handle(new FileNotFoundException());
+        catcher.handle(new IOException() {});
+        
+        assertEquals(List.of("io", "file", "timeout", "otherwise", "otherwise", "file", "io"), handled);
+    }
+    
+    @Test
+    public void laterRegistrationsReplaceEarlierOnes()
+    {
+        List<String> handled = new ArrayList<>();
+        
+        Catcher<Exception> catcher =
+            Catcher.<Exception>dispatch()
+                .on(IOException.class, e -> handled.add("first"))
+                .on(IOException.class, e -> handled.add("second"))
+                .otherwise(Catcher::rethrow);
+        
+        catcher.handle(new IOException());
+        assertEquals(List.of("second"), handled);
+        assertThrows(Rethrow.class, () -> catcher.handle(new Exception()));
+    }
+    
+    @Test
+    public void stillRethrowsErrors()
+    {
+        Catcher<Throwable> catcher = Catcher.dispatch().otherwise(Catcher::ignore);
+        assertThrows(AssertionError.class, () -> catcher.handleOrRethrowError(new AssertionError()));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionEventsTests
+{
+    private static final String PREFIX = "com.rezzedup.util.exceptional.";
+    
+    @Test
+    public void eventsAreDisabledByDefault()
+    {
+        assertTrue(ExceptionEvents.AVAILABLE);
+        assertFalse(ExceptionEvents.isHandledEnabled());
+        assertFalse(ExceptionEvents.isAttemptEnabled());
+    }
+    
+    @Test
+    public void recordsEventsWhenEnabled() throws IOException
+    {
+        Path file = Files.createTempFile("exceptional", ".jfr");
+        
+        try (Recording recording = new Recording())
+        {
+            recording.enable(PREFIX + "ExceptionHandled");
+            recording.enable(PREFIX + "AttemptExecuted");
+            recording.enable(PREFIX + "ExceptionRethrown");
+            recording.start();
+            
+            Attempt.ignoring().run(() -> { throw new IOException(); });
+            Attempt.printing().get(() -> "ok");
+            assertThrows(Rethrow.class, () -> Attempt.rethrowing().run(() -> { throw new IOException(); }));
+            
+            recording.stop();
+            recording.dump(file);
+            
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            
+            List<String> actions =
+                events.stream()
+                    .filter(event -> event.getEventType().getName().equals(PREFIX + "ExceptionHandled"))
+                    .map(event -> event.getString("action"))
+                    .collect(Collectors.toList());
+            
+            assertEquals(List.of("ignored", "rethrown"), actions);
+            
+            List<String> operations =
+                events.stream()
+                    .filter(event -> event.getEventType().getName().equals(PREFIX + "AttemptExecuted"))
+                    .map(event -> event.getString("operation"))
+                    .collect(Collectors.toList());
+            
+            assertEquals(List.of("run", "get", "run"), operations);
+            
+            assertEquals(
+                1,
+                events.stream().filter(event -> event.getEventType().getName().equals(PREFIX + "ExceptionRethrown")).count()
+            );
+        }
+        finally
+        {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionStatisticsTests
+{
+    @Test
+    public void countsByTypeAndSite()
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        List<Exception> handled = new ArrayList<>();
+        
+        Attempt config = Attempt.with(statistics.counting("config", handled::add));
+        Attempt other = Attempt.with(statistics.counting(Catcher::ignore));
+        
+        config.run(() -> { throw new IOException(); });
+        config.run(() -> { throw new FileNotFoundException(); });
+        config.run(() -> { throw new IOException(); });
+        other.run(() -> { throw new IOException(); });
+        
+        assertEquals(3, handled.size());
+        assertEquals(4, statistics.total());
+        assertEquals(3, statistics.byType().get(IOException.class).count());
+        assertEquals(1, statistics.byType().get(FileNotFoundException.class).count());
+        assertEquals(3, statistics.bySite().get("config").count());
+        assertTrue(statistics.bySite().get("config").lastSeen().isPresent());
+        assertTrue(statistics.bySite().get("config").ratePerSecond() > 0);
+    }
+    
+    @Test
+    public void countsConcurrently()
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        Catcher<Exception> catcher = statistics.counting("parallel", Catcher::ignore);
+        
+        IntStream.range(0, 100_000).parallel().forEach(i -> catcher.handle(new IllegalStateException()));
+        
+        assertEquals(100_000, statistics.total());
+        assertEquals(100_000, statistics.bySite().get("parallel").count());
+    }
+    
+    public static class ReloadedException extends RuntimeException {}
+    
+    static Class<?> loadIsolated(Class<?> type) throws Exception
+    {
+        String resource = type.getName().replace('.', '/') + ".class";
+        byte[] bytes;
+        
+        try (InputStream in = type.getClassLoader().getResourceAsStream(resource))
+        {
+            bytes = in.readAllBytes();
+        }
+        
+        ClassLoader loader = new ClassLoader(type.getClassLoader())
+        {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+            {
+                if (!name.equals(type.getName())) { return super.loadClass(name, resolve); }
+                synchronized (getClassLoadingLock(name))
+                {
+                    Class<?> loaded = findLoadedClass(name);
+                    return (loaded != null) ? loaded : defineClass(name, bytes, 0, bytes.length);
+                }
+            }
+        };
+        
+        return loader.loadClass(type.getName());
+    }
+    
+    @Test
+    public void doesNotRetainExceptionClasses() throws Exception
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        Class<?> reloaded = loadIsolated(ReloadedException.class);
+        assertNotSame(ReloadedException.class, reloaded);
+        
+        statistics.record((Throwable) reloaded.getDeclaredConstructor().newInstance());
+        assertEquals(1, statistics.byType().get(reloaded).count());
+        
+        WeakReference<ClassLoader> loader = new WeakReference<>(reloaded.getClassLoader());
+        reloaded = null;
+        
+        for (int i = 0; i < 50 && loader.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        
+        assertNull(loader.get());
+        assertTrue(statistics.byType().isEmpty());
+        assertEquals(1, statistics.total());
+    }
+    
+    @Test
+    public void monitorsAttempts()
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        Attempt attempt = statistics.monitor("lookup", Attempt.ignoring());
+        
+        attempt.run(() -> {});
+        attempt.get(() -> "ok");
+        attempt.getAsIntOr(() -> 1, 0);
+        attempt.get(() -> { throw new IOException(); });
+        
+        ExceptionStatistics.AttemptSnapshot snapshot = statistics.byAttempt().get("lookup");
+        
+        assertEquals(4, snapshot.calls());
+        assertEquals(3, snapshot.successes());
+        assertEquals(1, snapshot.failures());
+        assertEquals(0.25, snapshot.failureRatio());
+        assertEquals(1, statistics.byType().get(IOException.class).count());
+        
+        // Failures are still handled by the original catcher.
+        assertThrows(Rethrow.class, () -> statistics.monitor("lookup", Attempt.rethrowing()).run(() -> { throw new IOException(); }));
+        assertEquals(2, statistics.byAttempt().get("lookup").failures());
+    }
+    
+    @Test
+    public void monitorsDecoratedAttempts()
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).fixedDelay(Duration.ZERO).build();
+        AtomicInteger tries = new AtomicInteger();
+        
+        // Monitoring a retrying attempt still retries, and counts the call once.
+        statistics.monitor("outer", Attempt.ignoring().retrying(policy)).run(() -> {
+            tries.incrementAndGet();
+            throw new IOException();
+        });
+        
+        assertEquals(3, tries.get());
+        assertEquals(1, statistics.byAttempt().get("outer").calls());
+        assertEquals(1, statistics.byAttempt().get("outer").failures());
+        
+        // Retrying a monitored attempt counts every try.
+        statistics.monitor("inner", Attempt.ignoring()).retrying(policy).run(() -> { throw new IOException(); });
+        
+        assertEquals(3, statistics.byAttempt().get("inner").calls());
+        assertEquals(3, statistics.byAttempt().get("inner").failures());
+        assertEquals(0, statistics.byAttempt().get("inner").successes());
+        assertEquals(2, statistics.byType().get(IOException.class).count());
+        
+        // Timeouts still apply.
+        long start = System.nanoTime();
+        statistics.monitor("slow", Attempt.ignoring().timeout(Duration.ofMillis(50))).run(() -> Thread.sleep(5_000));
+        
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        assertEquals(1, statistics.byAttempt().get("slow").failures());
+        assertEquals(1, statistics.byType().get(TimeoutException.class).count());
+    }
+    
+    @Test
+    public void registersMXBean() throws Exception
+    {
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        Attempt attempt = statistics.monitor("lookup", Attempt.ignoring());
+        attempt.run(() -> { throw new IOException(); });
+        attempt.run(() -> {});
+        
+        ObjectName name = statistics.registerMXBean("tests");
+        
+        try
+        {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            
+            assertEquals(1L, server.getAttribute(name, "TotalExceptions"));
+            
+            ExceptionStatisticsMXBean proxy =
+                JMX.newMXBeanProxy(server, name, ExceptionStatisticsMXBean.class);
+            
+            assertEquals(Map.of(IOException.class.getName(), 1L), proxy.getExceptionCounts());
+            assertEquals(Map.of("lookup", 1L), proxy.getAttemptSuccesses());
+            assertEquals(Map.of("lookup", 0.5), proxy.getAttemptFailureRatios());
+            
+            assertThrows(IllegalStateException.class, () -> statistics.registerMXBean("tests"));
+        }
+        finally
+        {
+            ExceptionStatistics.unregisterMXBean("tests");
+        }
+        
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
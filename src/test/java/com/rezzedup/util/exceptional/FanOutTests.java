@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FanOutTests
+{
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    public void shutdown() { executor.shutdownNow(); }
+    
+    static CheckedSupplier<Integer, Exception> sleepy(int value, long millis)
+    {
+        return () -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+    
+    @Test
+    public void collectsAllResultsInOrder()
+    {
+        List<CheckedSupplier<Integer, Exception>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+        {
+            int n = i;
+            suppliers.add(() -> {
+                if (n == 7) { throw new IOException(); }
+                Thread.sleep(20 - n);
+                return n;
+            });
+        }
+        
+        List<ThrowsOr<Integer>> results = FanOut.builder().executor(executor).build().join(suppliers);
+        
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++)
+        {
+            if (i == 7) { assertTrue(results.get(i).exception().orElseThrow() instanceof IOException); }
+            else { assertEquals(i, results.get(i).value().orElseThrow()); }
+        }
+    }
+    
+    @Test
+    public void failFastCancelsSiblings()
+    {
+        List<CheckedSupplier<Integer, Exception>> suppliers =
+            List.of(sleepy(1, 10_000), () -> { throw new IOException(); }, sleepy(3, 10_000));
+        
+        long start = System.nanoTime();
+        List<ThrowsOr<Integer>> results = FanOut.builder().executor(executor).failFast().build().join(suppliers);
+        
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 5);
+        assertTrue(results.get(0).exception().orElseThrow() instanceof CancellationException);
+        assertTrue(results.get(1).exception().orElseThrow() instanceof IOException);
+        assertTrue(results.get(2).exception().orElseThrow() instanceof CancellationException);
+    }
+    
+    @Test
+    public void deadlineCancelsUnfinished()
+    {
+        List<CheckedSupplier<Integer, Exception>> suppliers = List.of(sleepy(1, 0), sleepy(2, 10_000));
+        
+        List<ThrowsOr<Integer>> results =
+            FanOut.builder().executor(executor).deadline(Duration.ofMillis(100)).build().join(suppliers);
+        
+        assertEquals(1, results.get(0).value().orElseThrow());
+        assertTrue(results.get(1).exception().orElseThrow() instanceof TimeoutException);
+    }
+}
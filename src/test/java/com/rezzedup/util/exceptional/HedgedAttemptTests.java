@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HedgedAttemptTests
+{
+    @Test
+    public void hedgeWinsAndInterruptsSlowCopy() throws InterruptedException
+    {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        
+        Attempt attempt = Attempt.rethrowing().hedged(Hedging.builder().delay(Duration.ofMillis(20)).build());
+        
+        long start = System.nanoTime();
+        
+        String result = attempt.get(() -> {
+            if (calls.incrementAndGet() == 1)
+            {
+                try { Thread.sleep(10_000); }
+                catch (InterruptedException e) { interrupted.countDown(); }
+                return "slow";
+            }
+            return "hedged";
+        }).orElseThrow();
+        
+        assertEquals("hedged", result);
+        assertEquals(2, calls.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 5);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void fastCallsAreNotHedged()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Attempt attempt = Attempt.rethrowing().hedged(Hedging.builder().delay(Duration.ofSeconds(5)).build());
+        
+        assertEquals(1, attempt.getAsIntOr(calls::incrementAndGet, -1));
+        assertEquals(1, calls.get());
+    }
+    
+    @Test
+    public void failsOnlyOnceEveryCopyFailed()
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger calls = new AtomicInteger();
+        Attempt attempt = Attempt.with(handled::add).hedged(Hedging.builder().delay(Duration.ofSeconds(5)).build());
+        
+        assertTrue(attempt.get(() -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        }).isEmpty());
+        
+        // Failing before the delay doesn't start a hedge.
+        assertEquals(1, calls.get());
+        assertEquals(1, handled.size());
+        assertTrue(handled.get(0) instanceof IOException);
+    }
+    
+    @Test
+    public void adaptsDelayToPercentile()
+    {
+        Hedging hedging = Hedging.builder().percentile(0.9, Duration.ofSeconds(1)).build();
+        assertEquals(Duration.ofSeconds(1), hedging.delay());
+        
+        for (int i = 1; i <= Hedging.SAMPLES; i++) { hedging.record(i); }
+        
+        assertEquals(Duration.ofNanos(116), hedging.delay());
+    }
+    
+    @Test
+    public void recordsHedgedCallsFromOriginalStart()
+    {
+        Hedging hedging = Hedging.builder().percentile(0.5, Duration.ofMillis(20)).build();
+        Attempt attempt = Attempt.ignoring().hedged(hedging);
+        AtomicInteger copies = new AtomicInteger();
+        
+        // Every primary is slow and every hedge is instant, so each call takes about the delay.
+        for (int i = 0; i < 16; i++)
+        {
+            assertEquals("ok", attempt.get(() -> {
+                if (copies.incrementAndGet() % 2 == 1) { Thread.sleep(5_000); }
+                return "ok";
+            }).orElseThrow());
+        }
+        
+        assertTrue(hedging.delay().compareTo(Duration.ofMillis(20)) >= 0, "delay shrank to " + hedging.delay());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazySupplierTests
+{
+    @Test
+    public void computesOnceOnFirstUse() throws Exception
+    {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        
+        LazySupplier<Integer, InterruptedException> lazy = LazySupplier.of(() -> {
+            release.await();
+            return computations.incrementAndGet();
+        });
+        
+        assertFalse(lazy.isComputed());
+        
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        try
+        {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) { futures.add(executor.submit(lazy::getOrThrow)); }
+            
+            release.countDown();
+            for (Future<Integer> future : futures) { assertEquals(1, future.get(5, TimeUnit.SECONDS)); }
+        }
+        finally { executor.shutdownNow(); }
+        
+        assertTrue(lazy.isComputed());
+        assertEquals(1, lazy.getOrThrow());
+        assertEquals(1, computations.get());
+    }
+    
+    @Test
+    public void retriesFailuresByDefault() throws IOException
+    {
+        AtomicInteger computations = new AtomicInteger();
+        LazySupplier<String, IOException> lazy = LazySupplier.of(() -> {
+            if (computations.incrementAndGet() == 1) { throw new IOException(); }
+            return "ok";
+        });
+        
+        assertThrows(IOException.class, lazy::getOrThrow);
+        assertFalse(lazy.isComputed());
+        assertEquals("ok", lazy.getOrThrow());
+        assertEquals("ok", lazy.getOrThrow());
+        assertEquals(2, computations.get());
+    }
+    
+    @Test
+    public void cachesFailuresIfConfigured()
+    {
+        AtomicInteger computations = new AtomicInteger();
+        LazySupplier<String, IOException> lazy = LazySupplier.of(() -> {
+            computations.incrementAndGet();
+            throw new IOException();
+        }, LazySupplier.OnFailure.CACHE);
+        
+        IOException first = assertThrows(IOException.class, lazy::getOrThrow);
+        assertSame(first, assertThrows(IOException.class, lazy::getOrThrow));
+        assertEquals(1, computations.get());
+        
+        // The supplier's catcher still applies.
+        assertThrows(Rethrow.class, lazy::get);
+        assertNull(lazy.catcher(Catcher::ignore).get());
+    }
+    
+    @Test
+    public void sharesFailureWithWaitingCallers() throws Exception
+    {
+        AtomicInteger computations = new AtomicInteger();
+        AtomicInteger waiting = new AtomicInteger();
+        
+        LazySupplier<String, Exception> lazy = LazySupplier.of(() -> {
+            computations.incrementAndGet();
+            while (waiting.get() < 5) { Thread.sleep(1); }
+            Thread.sleep(100); // let every caller queue up on the lock
+            throw new IOException();
+        });
+        
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        
+        try
+        {
+            List<Future<String>> futures = new ArrayList<>();
+            
+            for (int i = 0; i < 5; i++)
+            {
+                futures.add(executor.submit(() -> {
+                    waiting.incrementAndGet();
+                    return lazy.getOrThrow();
+                }));
+            }
+            
+            for (Future<String> future : futures)
+            {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+        finally { executor.shutdownNow(); }
+        
+        assertEquals(1, computations.get());
+        
+        // The next call retries.
+        assertThrows(IOException.class, lazy::getOrThrow);
+        assertEquals(2, computations.get());
+    }
+    
+    @Test
+    public void neverCachesErrors()
+    {
+        AtomicInteger computations = new AtomicInteger();
+        LazySupplier<String, RuntimeException> lazy = LazySupplier.of(() -> {
+            if (computations.incrementAndGet() == 1) { throw new StackOverflowError(); }
+            return "ok";
+        }, LazySupplier.OnFailure.CACHE);
+        
+        assertThrows(StackOverflowError.class, lazy::getOrThrow);
+        assertFalse(lazy.isComputed());
+        assertEquals("ok", lazy.getOrThrow());
+    }
+    
+    @Test
+    public void cachesNullValues()
+    {
+        AtomicInteger computations = new AtomicInteger();
+        LazySupplier<Object, RuntimeException> lazy = LazySupplier.of(() -> {
+            computations.incrementAndGet();
+            return null;
+        });
+        
+        assertNull(lazy.getOrThrow());
+        assertNull(lazy.getOrThrow());
+        assertEquals(1, computations.get());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+import pl.tlinkowski.annotation.basic.NullOr;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoizerTests
+{
+    @Test
+    public void cachesResultsAndEvictsLeastRecentlyUsed() throws IOException
+    {
+        AtomicInteger loads = new AtomicInteger();
+        MemoizedFunction<Integer, String, IOException> function =
+            Memoizer.builder().maximumSize(1).build().function(i -> {
+                loads.incrementAndGet();
+                return "#" + i;
+            });
+        
+        assertEquals("#1", function.applyOrThrow(1));
+        assertEquals("#1", function.applyOrThrow(1));
+        assertEquals(1, loads.get());
+        
+        function.applyOrThrow(2); // evicts 1
+        function.applyOrThrow(1);
+        assertEquals(3, loads.get());
+        assertEquals(1, function.size());
+        
+        function.invalidate(1);
+        function.applyOrThrow(1);
+        assertEquals(4, loads.get());
+    }
+    
+    @Test
+    public void cachesNullArguments() throws IOException
+    {
+        AtomicInteger loads = new AtomicInteger();
+        MemoizedFunction<@NullOr String, String, IOException> function =
+            Memoizer.builder().build().function(s -> {
+                loads.incrementAndGet();
+                return String.valueOf(s);
+            });
+        
+        assertEquals("null", function.applyOrThrow(null));
+        assertEquals("null", function.applyOrThrow(null));
+        assertEquals(1, loads.get());
+        
+        function.invalidate(null);
+        assertEquals(0, function.size());
+    }
+    
+    @Test
+    public void expiresAfterWrite() throws IOException
+    {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        
+        MemoizedFunction<String, Integer, IOException> function =
+            Memoizer.builder().expireAfterWrite(Duration.ofSeconds(10)).clock(clock::get).build()
+                .function(s -> loads.incrementAndGet());
+        
+        assertEquals(1, function.applyOrThrow("a"));
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals(1, function.applyOrThrow("a"));
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, function.applyOrThrow("a"));
+    }
+    
+    @Test
+    public void failuresAreNotCached()
+    {
+        AtomicInteger loads = new AtomicInteger();
+        MemoizedFunction<String, String, IOException> function =
+            Memoizer.builder().build().function(s -> {
+                if (loads.incrementAndGet() == 1) { throw new IOException(); }
+                return s;
+            });
+        
+        assertThrows(IOException.class, () -> function.applyOrThrow("a"));
+        assertDoesNotThrow(() -> assertEquals("a", function.applyOrThrow("a")));
+        assertEquals(2, loads.get());
+        
+        // The wrapper's catcher still applies.
+        MemoizedFunction<String, String, IOException> failing =
+            Memoizer.builder().build().function(s -> { throw new IOException(); });
+        
+        assertThrows(Rethrow.class, () -> failing.apply("a"));
+        assertNull(failing.catcher(Catcher::ignore).apply("a"));
+    }
+    
+    @Test
+    public void concurrentCallersShareOneLoad() throws Exception
+    {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        
+        MemoizedFunction<String, Integer, InterruptedException> function =
+            Memoizer.builder().build().function(s -> {
+                release.await();
+                return loads.incrementAndGet();
+            });
+        
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        try
+        {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) { futures.add(executor.submit(() -> function.applyOrThrow("key"))); }
+            
+            Thread.sleep(50);
+            release.countDown();
+            
+            for (Future<Integer> future : futures) { assertEquals(1, future.get(5, TimeUnit.SECONDS)); }
+            assertEquals(1, loads.get());
+        }
+        finally { executor.shutdownNow(); }
+    }
+    
+    @Test
+    public void memoizesBiFunctionsByBothArguments() throws IOException
+    {
+        AtomicInteger loads = new AtomicInteger();
+        MemoizedBiFunction<String, Integer, String, IOException> function =
+            Memoizer.builder().build().biFunction((s, i) -> {
+                loads.incrementAndGet();
+                return s.repeat(i);
+            });
+        
+        assertEquals("aa", function.applyOrThrow("a", 2));
+        assertEquals("aa", function.applyOrThrow("a", 2));
+        assertEquals("aaa", function.applyOrThrow("a", 3));
+        assertEquals(2, loads.get());
+        assertEquals(2, function.size());
+    }
+    
+    @Test
+    public void cachesFailuresBriefly()
+    {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        
+        MemoizedFunction<String, String, IOException> function =
+            Memoizer.builder().cacheFailures(Duration.ofSeconds(5)).clock(clock::get).build().function(s -> {
+                loads.incrementAndGet();
+                throw new IOException(s);
+            });
+        
+        IOException first = assertThrows(IOException.class, () -> function.applyOrThrow("missing"));
+        IOException second = assertThrows(IOException.class, () -> function.applyOrThrow("missing"));
+        
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, function.hits());
+        assertEquals(1, function.misses());
+        
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertNotSame(first, assertThrows(IOException.class, () -> function.applyOrThrow("missing")));
+        assertEquals(2, loads.get());
+        assertEquals(2, function.misses());
+    }
+    
+    @Test
+    public void neverCachesErrorsOrInterrupts() throws Exception
+    {
+        AtomicInteger loads = new AtomicInteger();
+        
+        MemoizedFunction<String, String, Exception> function =
+            Memoizer.builder().cacheFailures(Duration.ofSeconds(5)).build().function(s -> {
+                int load = loads.incrementAndGet();
+                if (load == 1) { throw new StackOverflowError(); }
+                if (load == 2) { throw new InterruptedException(); }
+                return "ok";
+            });
+        
+        assertThrows(StackOverflowError.class, () -> function.applyOrThrow("key"));
+        assertThrows(InterruptedException.class, () -> function.applyOrThrow("key"));
+        assertEquals("ok", function.applyOrThrow("key"));
+        assertEquals(3, loads.get());
+        assertEquals(0, function.hits());
+    }
+}
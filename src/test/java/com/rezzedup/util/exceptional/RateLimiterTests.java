@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTests
+{
+    @Test
+    public void admitsBurstThenSteadyRate()
+    {
+        AtomicLong clock = new AtomicLong();
+        List<Exception> handled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        RateLimiter limiter = RateLimiter.builder().rate(10, Duration.ofSeconds(1)).burst(3).clock(clock::get).build();
+        Attempt attempt = Attempt.with(handled::add).rateLimited(limiter);
+        
+        for (int i = 0; i < 5; i++) { attempt.run(calls::incrementAndGet); }
+        
+        assertEquals(3, calls.get());
+        assertEquals(2, limiter.rejected());
+        assertTrue(handled.get(0) instanceof RateLimiter.ExceededException);
+        assertSame(handled.get(0), handled.get(1));
+        
+        // One permit every 100ms.
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        attempt.run(calls::incrementAndGet);
+        attempt.run(calls::incrementAndGet);
+        
+        assertEquals(4, calls.get());
+        assertEquals(3, limiter.rejected());
+    }
+    
+    @Test
+    public void waitsForReservedPermit()
+    {
+        RateLimiter limiter =
+            RateLimiter.builder()
+                .rate(20, Duration.ofSeconds(1))
+                .burst(1)
+                .maxWait(Duration.ofSeconds(1))
+                .build();
+        
+        Attempt attempt = Attempt.rethrowing().rateLimited(limiter);
+        AtomicInteger calls = new AtomicInteger();
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) { attempt.run(calls::incrementAndGet); }
+        long elapsed = System.nanoTime() - start;
+        
+        assertEquals(3, calls.get());
+        assertEquals(0, limiter.rejected());
+        assertTrue(elapsed >= Duration.ofMillis(90).toNanos(), "elapsed: " + Duration.ofNanos(elapsed));
+    }
+    
+    @Test
+    public void waitsOnInjectedClock() throws InterruptedException
+    {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter limiter =
+            RateLimiter.builder()
+                .rate(10, Duration.ofSeconds(1))
+                .burst(1)
+                .maxWait(Duration.ofSeconds(1))
+                .clock(clock::get)
+                .build();
+        
+        Attempt attempt = Attempt.rethrowing().rateLimited(limiter);
+        AtomicInteger calls = new AtomicInteger();
+        
+        attempt.run(calls::incrementAndGet);
+        
+        Thread waiting = new Thread(() -> attempt.run(calls::incrementAndGet));
+        waiting.start();
+        
+        // Real time passing doesn't release the reserved permit; only the limiter's clock does.
+        waiting.join(300);
+        assertTrue(waiting.isAlive());
+        assertEquals(1, calls.get());
+        
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        waiting.join(5_000);
+        assertFalse(waiting.isAlive());
+        assertEquals(2, calls.get());
+    }
+}
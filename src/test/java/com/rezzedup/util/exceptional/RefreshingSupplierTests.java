@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import com.rezzedup.util.exceptional.checked.CheckedSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshingSupplierTests
+{
+    static void awaitUntil(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean())
+        {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+    
+    @Test
+    public void refreshesInBackground() throws Exception
+    {
+        AtomicInteger loads = new AtomicInteger();
+        
+        try (RefreshingSupplier<Integer, RuntimeException> supplier =
+            RefreshingSupplier.builder(CheckedSupplier.<Integer, RuntimeException>of(loads::incrementAndGet))
+                .ttl(Duration.ofMillis(100))
+                .refreshAhead(Duration.ofMillis(50))
+                .build())
+        {
+            assertEquals(0, loads.get()); // lazy
+            assertEquals(1, supplier.getOrThrow());
+            
+            awaitUntil(() -> loads.get() >= 3);
+            assertTrue(supplier.getOrThrow() >= 2);
+        }
+    }
+    
+    @Test
+    public void servesStaleValueWhenRefreshFails() throws Exception
+    {
+        List<Throwable> handled = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger loads = new AtomicInteger();
+        
+        CheckedSupplier<String, IOException> origin = CheckedSupplier.of(handled::add, () -> {
+            if (loads.incrementAndGet() > 1) { throw new IOException(); }
+            return "first";
+        });
+        
+        try (RefreshingSupplier<String, IOException> supplier =
+            RefreshingSupplier.builder(origin)
+                .ttl(Duration.ofMillis(20))
+                .refreshAhead(Duration.ofMillis(10))
+                .retryDelay(Duration.ofMillis(10))
+                .build())
+        {
+            assertEquals("first", supplier.getOrThrow());
+            
+            awaitUntil(() -> handled.size() >= 3);
+            assertEquals("first", supplier.getOrThrow());
+            assertTrue(handled.get(0) instanceof IOException);
+        }
+    }
+    
+    @Test
+    public void defaultRetryDelayIsNotTooShort() throws Exception
+    {
+        AtomicInteger handled = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+        
+        CheckedSupplier<String, IOException> origin = CheckedSupplier.of(e -> handled.incrementAndGet(), () -> {
+            if (loads.incrementAndGet() > 1) { throw new IOException(); }
+            return "first";
+        });
+        
+        try (RefreshingSupplier<String, IOException> supplier =
+            RefreshingSupplier.builder(origin)
+                .ttl(Duration.ofMillis(50))
+                .refreshAhead(Duration.ZERO)
+                .build())
+        {
+            assertEquals("first", supplier.getOrThrow());
+            Thread.sleep(450);
+        }
+        
+        // Retried every 5ms (a tenth of the ttl) after the first refresh at 50ms.
+        assertTrue(handled.get() >= 1);
+        assertTrue(handled.get() <= 100, "too many retries: " + handled.get());
+    }
+    
+    @Test
+    public void reloadsOnCallerOnceClosed() throws Exception
+    {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        
+        RefreshingSupplier<Integer, RuntimeException> supplier =
+            RefreshingSupplier.builder(CheckedSupplier.<Integer, RuntimeException>of(loads::incrementAndGet))
+                .ttl(Duration.ofHours(1))
+                .clock(clock::get)
+                .build();
+        
+        assertEquals(1, supplier.getOrThrow());
+        supplier.close();
+        assertFalse(supplier.isRefreshing());
+        
+        assertEquals(1, supplier.getOrThrow());
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        assertEquals(2, supplier.getOrThrow());
+        assertEquals(2, supplier.getOrThrow());
+    }
+}
@@ -33,5 +33,30 @@ public class RethrowTests
     {
         assertThrows(NullPointerException.class, () -> new Rethrow(null));
         assertNotNull(new Rethrow(new Exception()).getCause());
+        
+        assertThrows(NullPointerException.class, () -> Rethrow.stackless(null));
+        assertNotNull(Rethrow.stackless(new Exception()).getCause());
+    }
+    
+    @Test
+    public void stacklessRethrowSkipsStackTrace()
+    {
+        Exception cause = new Exception("cause");
+        Rethrow stackless = Rethrow.stackless(cause);
+        
+        assertSame(cause, stackless.getCause());
+        assertEquals(new Rethrow(cause).getMessage(), stackless.getMessage());
+        assertEquals(0, stackless.getStackTrace().length);
+        
+        // Suppression is disabled as well.
+        stackless.addSuppressed(new Exception());
+        assertEquals(0, stackless.getSuppressed().length);
+        
+        Rethrow thrown = assertThrows(Rethrow.class, () -> { throw Rethrow.caughtStackless(cause); });
+        assertEquals(0, thrown.getStackTrace().length);
+        
+        // Likewise, existing rethrows are never re-wrapped.
+        assertSame(thrown, assertThrows(Rethrow.class, () -> { throw Rethrow.caughtStackless(thrown); }));
+        assertThrows(Rethrow.class, () -> Catcher.rethrowStackless(cause));
     }
 }
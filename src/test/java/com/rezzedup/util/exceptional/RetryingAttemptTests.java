@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryingAttemptTests
+{
+    static RetryPolicy.Builder immediately()
+    {
+        return RetryPolicy.builder().fixedDelay(Duration.ZERO).jitter(0);
+    }
+    
+    @Test
+    public void retriesUntilSuccessful()
+    {
+        List<Exception> handled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        RetryingAttempt attempt = Attempt.with(handled::add).retrying(immediately().maxAttempts(5).build());
+        
+        assertEquals("ok", attempt.get(() -> {
+            if (calls.incrementAndGet() < 3) { throw new IOException(); }
+            return "ok";
+        }).orElseThrow());
+        
+        assertEquals(3, calls.get());
+        assertTrue(handled.isEmpty());
+    }
+    
+    @Test
+    public void onlyHandlesFinalException()
+    {
+        List<Exception> handled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        RetryingAttempt attempt = Attempt.with(handled::add).retrying(immediately().maxAttempts(4).build());
+        
+        assertEquals(-1, attempt.getAsIntOr(() -> { throw new IOException("" + calls.incrementAndGet()); }, -1));
+        assertEquals(4, calls.get());
+        assertEquals(1, handled.size());
+        assertEquals("4", handled.get(0).getMessage());
+    }
+    
+    @Test
+    public void onlyRetriesMatchingExceptions()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        RetryingAttempt attempt = Attempt.ignoring().retrying(immediately().maxAttempts(5).retryOn(IOException.class).build());
+        
+        attempt.run(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        });
+        
+        assertEquals(1, calls.get());
+        
+        ThrowsOr<Object> result = attempt.result(() -> {
+            throw new IOException(String.valueOf(calls.incrementAndGet()));
+        });
+        
+        assertEquals(6, calls.get());
+        assertTrue(result.exception().orElseThrow() instanceof IOException);
+    }
+    
+    @Test
+    public void doesNotRetryRejectionsOrInterruptsByDefault()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Attempt attempt = Attempt.ignoring().retrying(immediately().maxAttempts(5).build());
+        
+        CircuitBreaker breaker = CircuitBreaker.builder().window(1).minimumCalls(1).build();
+        Attempt guarded = Attempt.ignoring().circuitBreaker(breaker).retrying(immediately().maxAttempts(5).build());
+        guarded.run(() -> { calls.incrementAndGet(); throw new IOException(); });
+        assertEquals(1, calls.get()); // opened, then the rejection wasn't retried
+        
+        attempt.run(() -> {
+            calls.incrementAndGet();
+            throw new InterruptedException();
+        });
+        assertEquals(2, calls.get());
+        assertTrue(Thread.interrupted()); // restored (and cleared for the remaining tests)
+        
+        // Even a policy that retries everything doesn't retry interrupts.
+        Attempt.ignoring().retrying(immediately().maxAttempts(5).retryIf(e -> true).build()).run(() -> {
+            calls.incrementAndGet();
+            throw new InterruptedException();
+        });
+        assertEquals(3, calls.get());
+        assertTrue(Thread.interrupted());
+    }
+    
+    @Test
+    public void stopsRetryingAfterDeadline()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        
+        RetryPolicy policy =
+            RetryPolicy.builder()
+                .maxAttempts(Integer.MAX_VALUE)
+                .fixedDelay(Duration.ofMillis(20))
+                .jitter(0)
+                .deadline(Duration.ofMillis(50))
+                .build();
+        
+        Attempt.ignoring().retrying(policy).run(() -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        });
+        
+        assertTrue(calls.get() >= 2 && calls.get() <= 3, "calls: " + calls.get());
+    }
+    
+    @Test
+    public void backoffGrowsAndIsCapped()
+    {
+        RetryPolicy policy =
+            RetryPolicy.builder()
+                .maxAttempts(10)
+                .backoff(Duration.ofNanos(100), Duration.ofNanos(500), 2.0)
+                .jitter(0)
+                .build();
+        
+        Exception e = new Exception();
+        
+        assertEquals(100, policy.nextDelayNanos(e, 1, 0));
+        assertEquals(200, policy.nextDelayNanos(e, 2, 0));
+        assertEquals(400, policy.nextDelayNanos(e, 3, 0));
+        assertEquals(500, policy.nextDelayNanos(e, 4, 0));
+        assertEquals(-1, policy.nextDelayNanos(e, 10, 0));
+    }
+    
+    @Test
+    public void retriesThroughStackedDecorators()
+    {
+        List<Exception> handled = new ArrayList<>();
+        ExceptionStatistics statistics = ExceptionStatistics.create();
+        
+        Attempt timed = Attempt.with(handled::add).timeout(Duration.ofMillis(50));
+        Attempt attempt = statistics.monitor("timed", timed).retrying(immediately().maxAttempts(2).build());
+        
+        long start = System.nanoTime();
+        attempt.run(() -> Thread.sleep(5_000));
+        
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1, handled.size());
+        assertTrue(handled.get(0) instanceof TimeoutException);
+        assertEquals(2, statistics.byAttempt().get("timed").calls());
+        assertEquals(2, statistics.byAttempt().get("timed").failures());
+    }
+    
+    @Test
+    public void retriesAsynchronously() throws Exception
+    {
+        List<Exception> handled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        
+        RetryingAttempt attempt =
+            Attempt.with(e -> { synchronized (handled) { handled.add(e); } })
+                .retrying(RetryPolicy.builder().maxAttempts(3).fixedDelay(Duration.ofMillis(1)).build());
+        
+        ThrowsOr<String> success = attempt.getAsync(() -> {
+            if (calls.incrementAndGet() < 2) { throw new IOException(); }
+            return "ok";
+        }, ForkJoinPool.commonPool()).get(5, TimeUnit.SECONDS);
+        
+        assertEquals("ok", success.value().orElseThrow());
+        
+        ThrowsOr<String> failure =
+            attempt.<String>getAsync(() -> { throw new IOException(); }, ForkJoinPool.commonPool())
+                .get(5, TimeUnit.SECONDS);
+        
+        assertTrue(failure.exception().orElseThrow() instanceof IOException);
+        synchronized (handled) { assertEquals(1, handled.size()); }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThrottledCatcherTests
+{
+    @Test
+    public void limitsExceptionsPerWindow()
+    {
+        AtomicLong clock = new AtomicLong();
+        List<Exception> handled = new ArrayList<>();
+        List<ThrottledCatcher.Summary> summaries = new ArrayList<>();
+        
+        ThrottledCatcher<Exception> catcher =
+            Catcher.<Exception>throttle(handled::add)
+                .limit(3, Duration.ofSeconds(3))
+                .summarize(summaries::add, Duration.ofSeconds(10))
+                .clock(clock::get)
+                .build();
+        
+        for (int i = 0; i < 10; i++) { catcher.handle(new Exception()); }
+        
+        assertEquals(3, handled.size());
+        assertEquals(3, catcher.passed());
+        assertEquals(7, catcher.suppressed());
+        assertTrue(summaries.isEmpty());
+        
+        // A single permit refills every second.
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        catcher.handle(new Exception());
+        catcher.handle(new Exception());
+        
+        assertEquals(4, handled.size());
+        assertEquals(8, catcher.suppressed());
+        
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        catcher.handle(new Exception());
+        
+        assertEquals(1, summaries.size());
+        assertEquals(8, summaries.get(0).count());
+        assertEquals(Duration.ofSeconds(11), summaries.get(0).period());
+    }
+    
+    @Test
+    public void samplesExceptions()
+    {
+        List<Exception> handled = new ArrayList<>();
+        
+        ThrottledCatcher<Exception> catcher =
+            Catcher.<Exception>throttle(handled::add).sample(10).build();
+        
+        for (int i = 0; i < 10_000; i++) { catcher.handle(new Exception()); }
+        
+        assertEquals(10_000, catcher.passed() + catcher.suppressed());
+        assertEquals(handled.size(), catcher.passed());
+        // Roughly one in ten, with plenty of tolerance for randomness.
+        assertTrue(handled.size() > 500 && handled.size() < 1500, "sampled: " + handled.size());
+    }
+    
+    @Test
+    public void requiresSomethingToThrottle()
+    {
+        assertThrows(IllegalStateException.class, () -> Catcher.throttle(Catcher::print).build());
+        assertThrows(IllegalArgumentException.class, () -> Catcher.throttle(Catcher::print).limit(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.throttle(Catcher::print).sample(0));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.throttle(Catcher::print).summarize(Catcher::print, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Catcher.throttle(Catcher::print).summarize(Catcher::print, Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThrowsOrTests
+{
+    @Test
+    public void mapsValues()
+    {
+        ThrowsOr<String> value = ThrowsOr.value("abc");
+        
+        assertEquals(ThrowsOr.value(3), value.map(String::length));
+        assertEquals(ThrowsOr.empty(), value.map(v -> null));
+        assertInstanceOf(IOException.class, value.map(v -> { throw new IOException(); }).exceptionOrThrow());
+        
+        assertEquals(ThrowsOr.value(3), value.flatMap(v -> ThrowsOr.value(v.length())));
+        assertInstanceOf(IOException.class, value.flatMap(v -> ThrowsOr.raise(new IOException())).exceptionOrThrow());
+        assertInstanceOf(IOException.class, value.flatMap(v -> { throw new IOException(); }).exceptionOrThrow());
+        
+        assertSame(value, value.filter(v -> v.startsWith("a")));
+        assertSame(ThrowsOr.empty(), value.filter(String::isEmpty));
+        assertInstanceOf(IOException.class, value.filter(v -> { throw new IOException(); }).exceptionOrThrow());
+        
+        // Values aren't exceptions, there's nothing to recover from.
+        assertSame(value, value.recover(e -> "xyz"));
+        assertSame(value, value.recoverWith(e -> ThrowsOr.value("xyz")));
+        assertSame(value, value.mapException(IllegalStateException::new));
+    }
+    
+    @Test
+    public void mapsExceptions()
+    {
+        IOException exception = new IOException();
+        ThrowsOr<String> exceptional = ThrowsOr.raise(exception);
+        
+        // Exceptional instances are reused as-is, regardless of value type.
+        assertSame(exceptional, exceptional.map(String::length));
+        assertSame(exceptional, exceptional.flatMap(v -> ThrowsOr.value(v.length())));
+        assertSame(exceptional, exceptional.filter(String::isEmpty));
+        
+        assertEquals(ThrowsOr.value("recovered"), exceptional.recover(e -> "recovered"));
+        assertSame(ThrowsOr.empty(), exceptional.recover(e -> null));
+        assertInstanceOf(IllegalStateException.class, exceptional.recover(e -> { throw new IllegalStateException(); }).exceptionOrThrow());
+        
+        assertEquals(ThrowsOr.value("recovered"), exceptional.recoverWith(e -> ThrowsOr.value("recovered")));
+        assertInstanceOf(IllegalStateException.class, exceptional.recoverWith(e -> { throw new IllegalStateException(); }).exceptionOrThrow());
+        
+        Throwable mapped = exceptional.mapException(IllegalStateException::new).exceptionOrThrow();
+        assertInstanceOf(IllegalStateException.class, mapped);
+        assertSame(exception, mapped.getCause());
+        assertSame(exceptional, exceptional.mapException(e -> e));
+    }
+    
+    @Test
+    public void emptyStaysEmpty()
+    {
+        ThrowsOr<String> empty = ThrowsOr.empty();
+        
+        assertSame(empty, empty.map(String::length));
+        assertSame(empty, empty.flatMap(v -> ThrowsOr.value(v.length())));
+        assertSame(empty, empty.filter(String::isEmpty));
+        assertSame(empty, empty.recover(e -> "recovered"));
+        assertSame(empty, empty.recoverWith(e -> ThrowsOr.value("recovered")));
+        assertSame(empty, empty.mapException(IllegalStateException::new));
+    }
+    
+    @Test
+    public void foldsIntoSingleResult()
+    {
+        assertEquals(3, ThrowsOr.value("abc").fold(String::length, e -> -1, () -> 0));
+        assertEquals(-1, ThrowsOr.<String>raise(new IOException()).fold(String::length, e -> -1, () -> 0));
+        assertEquals(0, ThrowsOr.<String>empty().fold(String::length, e -> -1, () -> 0));
+        
+        assertThrows(IOException.class, () ->
+            ThrowsOr.<String>raise(new IOException()).fold(String::length, e -> { throw (IOException) e; }, () -> 0)
+        );
+    }
+    
+    @Test
+    public void primitiveSpecializationsContainValues()
+    {
+        ThrowsOrInt i = ThrowsOrInt.result(() -> 1);
+        assertTrue(i.isValuePresent());
+        assertFalse(i.isExceptional());
+        assertEquals(1, i.getAsIntOrThrow());
+        assertEquals(1, i.value().orElseThrow());
+        assertEquals(ThrowsOrInt.value(1), i);
+        assertEquals(ThrowsOrInt.value(1).hashCode(), i.hashCode());
+        
+        ThrowsOrLong l = ThrowsOrLong.result(() -> 1L);
+        assertTrue(l.isValuePresent());
+        assertEquals(1L, l.getAsLongOrThrow());
+        assertEquals(ThrowsOrLong.value(1L), l);
+        
+        ThrowsOrDouble d = ThrowsOrDouble.result(() -> 1.0);
+        assertTrue(d.isValuePresent());
+        assertEquals(1.0, d.getAsDoubleOrThrow());
+        assertEquals(ThrowsOrDouble.value(1.0), d);
+        
+        // Zero is a value, not emptiness.
+        assertFalse(ThrowsOrInt.value(0).isEmpty());
+        assertNotEquals(ThrowsOrInt.empty(), ThrowsOrInt.value(0));
+    }
+    
+    @SuppressWarnings({"divzero", "NumericOverflow"})
+    @Test
+    public void primitiveSpecializationsContainExceptions()
+    {
+        ThrowsOrInt i = ThrowsOrInt.result(() -> 1 / 0);
+        assertTrue(i.isExceptional());
+        assertTrue(i.isValueEmpty());
+        assertFalse(i.isEmpty());
+        assertInstanceOf(ArithmeticException.class, i.exceptionOrThrow());
+        assertSame(i.exceptionOrThrow(), assertThrows(Rethrow.class, i::getAsIntOrThrow).getCause());
+        
+        ThrowsOrLong l = ThrowsOrLong.result(() -> { throw new IOException(); });
+        assertInstanceOf(IOException.class, l.exceptionOrThrow());
+        assertThrows(Rethrow.class, l::getAsLongOrThrow);
+        
+        ThrowsOrDouble d = ThrowsOrDouble.raise(IOException::new);
+        assertInstanceOf(IOException.class, d.exceptionOrThrow());
+        assertThrows(Rethrow.class, d::getAsDoubleOrThrow);
+        
+        ThrowsOr<String> propagated = i.propagate();
+        assertSame(i.exceptionOrThrow(), propagated.exceptionOrThrow());
+        assertThrows(IllegalStateException.class, () -> ThrowsOrInt.value(1).propagate());
+    }
+    
+    @Test
+    public void primitiveSpecializationsCanBeEmpty()
+    {
+        assertTrue(ThrowsOrInt.empty().isEmpty());
+        assertTrue(ThrowsOrLong.empty().value().isEmpty());
+        assertTrue(ThrowsOrDouble.empty().exception().isEmpty());
+        
+        assertThrows(NoSuchElementException.class, () -> ThrowsOrInt.empty().getAsIntOrThrow());
+        assertThrows(NoSuchElementException.class, () -> ThrowsOrLong.empty().exceptionOrThrow());
+        assertThrows(IllegalStateException.class, () -> ThrowsOrDouble.empty().propagate());
+    }
+    
+    @Test
+    public void primitiveSpecializationsConvertToAndFromBoxed()
+    {
+        IOException exception = new IOException();
+        
+        assertEquals(ThrowsOr.value(1), ThrowsOrInt.value(1).boxed());
+        assertEquals(ThrowsOr.value(1L), ThrowsOrLong.value(1L).boxed());
+        assertEquals(ThrowsOr.value(1.0), ThrowsOrDouble.value(1.0).boxed());
+        assertSame(exception, ThrowsOrInt.raise(exception).boxed().exceptionOrThrow());
+        assertSame(ThrowsOr.empty(), ThrowsOrInt.empty().boxed());
+        
+        assertEquals(ThrowsOrInt.value(1), ThrowsOrInt.unboxed(ThrowsOr.value(1)));
+        assertEquals(ThrowsOrLong.value(1L), ThrowsOrLong.unboxed(ThrowsOr.value(1L)));
+        assertEquals(ThrowsOrDouble.value(1.0), ThrowsOrDouble.unboxed(ThrowsOr.value(1.0)));
+        assertEquals(ThrowsOrInt.raise(exception), ThrowsOrInt.unboxed(ThrowsOr.raise(exception)));
+        assertSame(ThrowsOrInt.empty(), ThrowsOrInt.unboxed(ThrowsOr.empty()));
+    }
+}
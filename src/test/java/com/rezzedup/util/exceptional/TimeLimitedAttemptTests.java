@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeLimitedAttemptTests
+{
+    @Test
+    public void timesOutAndInterruptsWorker() throws InterruptedException
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        
+        TimeLimitedAttempt attempt = Attempt.with(handled::add).timeout(Duration.ofMillis(50));
+        
+        assertEquals(-1, attempt.getAsIntOr(() -> {
+            try { Thread.sleep(10_000); }
+            catch (InterruptedException e) { interrupted.countDown(); }
+            return 1;
+        }, -1));
+        
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, handled.size());
+        assertTrue(handled.get(0) instanceof TimeoutException);
+    }
+    
+    @Test
+    public void passesThroughResultsAndExceptions()
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        TimeLimitedAttempt attempt = Attempt.with(handled::add).timeout(Duration.ofSeconds(5));
+        
+        assertEquals("ok", attempt.get(() -> "ok").orElseThrow());
+        assertTrue(attempt.get(() -> { throw new IOException(); }).isEmpty());
+        assertEquals(1, handled.size());
+        assertTrue(handled.get(0) instanceof IOException);
+    }
+    
+    @Test
+    public void timesOutAsynchronously() throws Exception
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        TimeLimitedAttempt attempt = Attempt.with(handled::add).timeout(Duration.ofMillis(50));
+        
+        ThrowsOr<String> result =
+            attempt.getAsync(() -> { Thread.sleep(10_000); return "late"; }, ForkJoinPool.commonPool())
+                .get(5, TimeUnit.SECONDS);
+        
+        assertTrue(result.exception().orElseThrow() instanceof TimeoutException);
+        assertEquals(1, handled.size());
+    }
+    
+    @Test
+    public void retriesEachTimedAttempt()
+    {
+        List<Exception> handled = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger calls = new AtomicInteger();
+        
+        Attempt attempt =
+            Attempt.with(handled::add)
+                .timeout(Duration.ofMillis(50))
+                .retrying(RetryingAttemptTests.immediately().maxAttempts(3).build());
+        
+        assertEquals(3, attempt.getAsIntOr(() -> {
+            if (calls.incrementAndGet() < 3) { Thread.sleep(10_000); }
+            return calls.get();
+        }, -1));
+        
+        assertTrue(handled.isEmpty());
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2021-2022, RezzedUp <https://github.com/RezzedUp/Exceptional>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.rezzedup.util.exceptional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadsTests
+{
+    @Test
+    public void availableOnJava21()
+    {
+        // Only an implication: earlier releases may have them as a preview feature.
+        if (Runtime.version().feature() >= 21) { assertTrue(VirtualThreads.isAvailable()); }
+    }
+    
+    @Test
+    public void asyncAttemptsUseDefaultExecutor() throws Exception
+    {
+        assertEquals(42, Attempt.ignoring().getAsIntAsync(() -> 42).get(5, TimeUnit.SECONDS).value().orElseThrow());
+        
+        ThrowsOr<Object> failed = Attempt.ignoring().getAsync(() -> { throw new IOException(); }).get(5, TimeUnit.SECONDS);
+        assertTrue(failed.exception().orElseThrow() instanceof IOException);
+    }
+}